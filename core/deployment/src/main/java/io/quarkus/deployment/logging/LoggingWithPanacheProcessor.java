@@ -1,7 +1,11 @@
 package io.quarkus.deployment.logging;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.logmanager.Level;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.FieldVisitor;
@@ -10,12 +14,31 @@
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.objectweb.asm.commons.LocalVariablesSorter;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.BasicInterpreter;
+import org.objectweb.asm.tree.analysis.BasicValue;
+import org.objectweb.asm.tree.analysis.Frame;
 
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.LogCategoryMinLevelDefaultsBuildItem;
+import io.quarkus.deployment.pkg.NativeConfig;
 import io.quarkus.gizmo.Gizmo;
+import io.quarkus.runtime.logging.LogBuildTimeConfig;
+import io.quarkus.runtime.logging.LogBuildTimeConfig.CategoryBuildTimeConfig;
+import io.quarkus.runtime.logging.LoggingSetupRecorder;
 
 public class LoggingWithPanacheProcessor {
     private static final DotName QUARKUS_LOG_DOTNAME = DotName.createSimple("io.quarkus.logging.Log");
@@ -30,14 +53,29 @@ public class LoggingWithPanacheProcessor {
 
     private static final String LAMBDA_METAFACTORY = "java/lang/invoke/LambdaMetafactory";
 
+    private static final int NO_LEVEL = -1;
+
+    // no invocation is removed
+    private static final int NO_MIN_LEVEL = Integer.MIN_VALUE;
+
     @BuildStep
-    public void process(CombinedIndexBuildItem index, BuildProducer<BytecodeTransformerBuildItem> transformers) {
+    public void process(CombinedIndexBuildItem index, LogBuildTimeConfig logBuildTimeConfig,
+            LogCategoryMinLevelDefaultsBuildItem categoryMinLevelDefaults, NativeConfig nativeConfig,
+            BuildProducer<BytecodeTransformerBuildItem> transformers) {
         for (ClassInfo clazz : index.getIndex().getKnownUsers(QUARKUS_LOG_DOTNAME)) {
             String className = clazz.name().toString();
+            // the logger category is the class name; levels below the min-level are never enabled in a native image,
+            // see LoggingResourceProcessor#setUpMinLevelLogging(), but they can be enabled at runtime in the JVM mode
+            int minLevel = nativeConfig.enabled()
+                    ? LoggingSetupRecorder.getLogLevel(className, logBuildTimeConfig.categories(),
+                            CategoryBuildTimeConfig::minLevel, categoryMinLevelDefaults.content,
+                            logBuildTimeConfig.minLevel()).intValue()
+                    : NO_MIN_LEVEL;
 
             transformers.produce(new BytecodeTransformerBuildItem.Builder()
                     .setClassToTransform(className)
-                    .setVisitorFunction((ignored, visitor) -> new AddLoggerFieldAndRewriteInvocations(visitor, className))
+                    .setVisitorFunction(
+                            (ignored, visitor) -> new AddLoggerFieldAndRewriteInvocations(visitor, className, minLevel))
                     .setClassReaderOptions(ClassReader.EXPAND_FRAMES)
                     .setPriority(1000)
                     .build());
@@ -52,7 +90,13 @@ public void process(CombinedIndexBuildItem index, BuildProducer<BytecodeTransfor
      * <li>initializes the field (to {@code Logger.getLogger(className)}) at the beginning of the
      * static initializer (creating one if missing);</li>
      * <li>rewrites all invocations of {@code static} methods on {@code io.quarkus.logging.Log}
-     * to corresponding invocations of virtual methods on the logger field.</li>
+     * to corresponding invocations of virtual methods on the logger field;</li>
+     * <li>wraps invocations of the trace, debug and info logging methods whose arguments are costly to compute in
+     * {@code if (Log.isXxxEnabled())}, so that the arguments are only computed when the level is enabled, see
+     * {@link GuardLogInvocations};</li>
+     * <li>in a native build, removes invocations of logging methods whose level is below the minimum level of the class's
+     * category (the arguments are popped from the stack) and replaces the corresponding {@code isXxxEnabled()}
+     * invocations with {@code false}, which also disables the code guarded by them.</li>
      * </ul>
      * Assumes that the set of {@code static} methods on {@code io.quarkus.runtime.logging.Log}
      * is identical (when it comes to names, return types and parameter types) to the set of virtual methods
@@ -61,16 +105,18 @@ public void process(CombinedIndexBuildItem index, BuildProducer<BytecodeTransfor
     private static class AddLoggerFieldAndRewriteInvocations extends ClassVisitor {
         private final String className;
         private final String classNameBinary;
+        private final int minLevel;
 
         private boolean isInterface;
 
         private boolean generatedLoggerField;
         private boolean generatedLoggerFieldInitialization;
 
-        public AddLoggerFieldAndRewriteInvocations(ClassVisitor visitor, String className) {
+        public AddLoggerFieldAndRewriteInvocations(ClassVisitor visitor, String className, int minLevel) {
             super(Gizmo.ASM_API_VERSION, visitor);
             this.className = className;
             this.classNameBinary = className.replace(".", "/");
+            this.minLevel = minLevel;
         }
 
         @Override
@@ -99,7 +145,7 @@ public MethodVisitor visitMethod(int access, String name, String descriptor, Str
                 return null;
             }
 
-            return new LocalVariablesSorter(Gizmo.ASM_API_VERSION, access, descriptor, visitor) {
+            MethodVisitor rewriter = new LocalVariablesSorter(Gizmo.ASM_API_VERSION, access, descriptor, visitor) {
                 @Override
                 public void visitCode() {
                     if ("<clinit>".equals(name)) {
@@ -125,6 +171,21 @@ public void visitMethodInsn(int opcode, String owner, String name, String descri
                     int numArgs = argTypes.length;
                     int[] locals = null;
 
+                    int level = getLevel(name);
+                    if (level != NO_LEVEL && level < minLevel) {
+                        // this level can never be enabled for the category
+                        if (Type.getReturnType(descriptor).getSort() == Type.BOOLEAN) {
+                            // isXxxEnabled()
+                            super.visitInsn(Opcodes.ICONST_0);
+                        } else {
+                            // stack: [arg1 arg2 arg3] -> []
+                            for (int i = numArgs - 1; i >= 0; i--) {
+                                super.visitInsn(argTypes[i].getSize() == 2 ? Opcodes.POP2 : Opcodes.POP);
+                            }
+                        }
+                        return;
+                    }
+
                     boolean directStackManipulation = isDirectStackManipulationPossible(argTypes);
 
                     // for 0, 1 or 2 arguments of the logger method, where each only takes 1 stack slot,
@@ -223,6 +284,28 @@ private boolean isDirectStackManipulationPossible(Type[] argTypes) {
                             || argTypes.length == 2 && argTypes[0].getSize() == 1 && argTypes[1].getSize() == 1;
                 }
             };
+            return new GuardLogInvocations(access, name, descriptor, signature, exceptions, classNameBinary, rewriter);
+        }
+
+        /**
+         * @return the level of the logging method or {@link #NO_LEVEL} if the level is not known at build time,
+         *         e.g. {@code Log.log(Level, Object)}
+         */
+        private static int getLevel(String methodName) {
+            if (methodName.startsWith("trace") || methodName.equals("isTraceEnabled")) {
+                return Level.TRACE.intValue();
+            } else if (methodName.startsWith("debug") || methodName.equals("isDebugEnabled")) {
+                return Level.DEBUG.intValue();
+            } else if (methodName.startsWith("info") || methodName.equals("isInfoEnabled")) {
+                return Level.INFO.intValue();
+            } else if (methodName.startsWith("warn")) {
+                return Level.WARN.intValue();
+            } else if (methodName.startsWith("error")) {
+                return Level.ERROR.intValue();
+            } else if (methodName.startsWith("fatal")) {
+                return Level.FATAL.intValue();
+            }
+            return NO_LEVEL;
         }
 
         @Override
@@ -258,4 +341,215 @@ private void generateLoggerField() {
             generatedLoggerField = true;
         }
     }
+
+    /**
+     * Wraps the invocations of {@code Log} trace, debug and info logging methods in
+     * {@code if (Log.isXxxEnabled()) { ... }}, so that the arguments are not computed when the level is disabled. The guard
+     * is inserted before the instructions that push the arguments on the stack, which are found by analyzing the stack
+     * size before each instruction. The {@code Log} invocations are then rewritten by the next visitor.
+     * <p>
+     * Invocations whose arguments are cheap to compute (constants, local variables and fields) are left as they are,
+     * as well as invocations whose arguments are not computed by a sequence of instructions that can be skipped as a
+     * whole, e.g. when the computation contains a {@code try} block or a {@code throw}.
+     */
+    private static class GuardLogInvocations extends MethodNode {
+        private final String owner;
+        private final MethodVisitor next;
+
+        GuardLogInvocations(int access, String name, String descriptor, String signature, String[] exceptions,
+                String owner, MethodVisitor next) {
+            super(Gizmo.ASM_API_VERSION, access, name, descriptor, signature, exceptions);
+            this.owner = owner;
+            this.next = next;
+        }
+
+        @Override
+        public void visitEnd() {
+            super.visitEnd();
+            if (hasGuardCandidate()) {
+                insertGuards();
+            }
+            accept(next);
+        }
+
+        private boolean hasGuardCandidate() {
+            for (AbstractInsnNode insn : instructions) {
+                if (getEnabledMethodName(insn) != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void insertGuards() {
+            Frame<BasicValue>[] frames;
+            try {
+                frames = new Analyzer<>(new BasicInterpreter()).analyze(owner, this);
+            } catch (AnalyzerException e) {
+                // leave the method as it is
+                return;
+            }
+            AbstractInsnNode[] insns = instructions.toArray();
+            List<int[]> jumps = findJumps();
+            // the instructions are only modified once all the guarded sequences are known
+            List<AbstractInsnNode[]> guarded = new ArrayList<>();
+            for (int i = 0; i < insns.length; i++) {
+                if (getEnabledMethodName(insns[i]) == null) {
+                    continue;
+                }
+                int numArgs = Type.getArgumentTypes(((MethodInsnNode) insns[i]).desc).length;
+                int start = findArgumentsStart(frames, insns, jumps, i, numArgs);
+                if (start >= 0 && isCostly(insns, start, i) && canSkip(insns, jumps, start, i)) {
+                    guarded.add(new AbstractInsnNode[] { insns[start], insns[i] });
+                }
+            }
+            for (AbstractInsnNode[] sequence : guarded) {
+                LabelNode skip = new LabelNode();
+                InsnList guard = new InsnList();
+                guard.add(new MethodInsnNode(Opcodes.INVOKESTATIC, QUARKUS_LOG_BINARY_NAME,
+                        getEnabledMethodName(sequence[1]), "()Z", false));
+                guard.add(new JumpInsnNode(Opcodes.IFEQ, skip));
+                instructions.insertBefore(sequence[0], guard);
+                instructions.insert(sequence[1], skip);
+            }
+        }
+
+        /**
+         * @return the jumps of the method as pairs of the index of the jump instruction and the index of its target
+         */
+        private List<int[]> findJumps() {
+            List<int[]> jumps = new ArrayList<>();
+            for (int i = 0; i < instructions.size(); i++) {
+                AbstractInsnNode insn = instructions.get(i);
+                if (insn instanceof JumpInsnNode jump) {
+                    jumps.add(new int[] { i, instructions.indexOf(jump.label) });
+                } else if (insn instanceof TableSwitchInsnNode tableSwitch) {
+                    addSwitchJumps(jumps, i, tableSwitch.dflt, tableSwitch.labels);
+                } else if (insn instanceof LookupSwitchInsnNode lookupSwitch) {
+                    addSwitchJumps(jumps, i, lookupSwitch.dflt, lookupSwitch.labels);
+                }
+            }
+            return jumps;
+        }
+
+        private void addSwitchJumps(List<int[]> jumps, int source, LabelNode dflt, List<LabelNode> labels) {
+            jumps.add(new int[] { source, instructions.indexOf(dflt) });
+            for (LabelNode label : labels) {
+                jumps.add(new int[] { source, instructions.indexOf(label) });
+            }
+        }
+
+        /**
+         * @return the name of the {@code isXxxEnabled()} method if the instruction is an invocation of a {@code Log}
+         *         logging method that has one, {@code null} otherwise
+         */
+        private static String getEnabledMethodName(AbstractInsnNode insn) {
+            if (insn instanceof MethodInsnNode invocation
+                    && invocation.getOpcode() == Opcodes.INVOKESTATIC
+                    && QUARKUS_LOG_BINARY_NAME.equals(invocation.owner)
+                    && Type.getReturnType(invocation.desc).getSort() == Type.VOID) {
+                int level = AddLoggerFieldAndRewriteInvocations.getLevel(invocation.name);
+                if (level == Level.TRACE.intValue()) {
+                    return "isTraceEnabled";
+                } else if (level == Level.DEBUG.intValue()) {
+                    return "isDebugEnabled";
+                } else if (level == Level.INFO.intValue()) {
+                    return "isInfoEnabled";
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Finds the instruction that starts pushing the arguments of the invocation on the stack, i.e. the closest
+         * instruction before the invocation where the stack size is the one without the arguments, and that is the only
+         * entry to the instructions up to the invocation. The other instructions with the same stack size are the
+         * branches of a conditional expression, which are entered by a jump.
+         *
+         * @return the index of the instruction, or {@code -1} if not found
+         */
+        private static int findArgumentsStart(Frame<BasicValue>[] frames, AbstractInsnNode[] insns, List<int[]> jumps,
+                int invocation, int numArgs) {
+            if (numArgs == 0 || frames[invocation] == null) {
+                return -1;
+            }
+            // the stack size before the arguments are pushed
+            int base = frames[invocation].getStackSize() - numArgs;
+            for (int i = invocation - 1; i >= 0; i--) {
+                if (frames[i] == null) {
+                    // unreachable code
+                    return -1;
+                }
+                int stackSize = frames[i].getStackSize();
+                if (stackSize < base) {
+                    return -1;
+                }
+                if (stackSize == base && insns[i].getOpcode() >= 0 && !isEnteredByJump(jumps, i, invocation)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static boolean isEnteredByJump(List<int[]> jumps, int start, int invocation) {
+            for (int[] jump : jumps) {
+                if (!isInside(jump[0], start, invocation) && isInside(jump[1], start, invocation)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isCostly(AbstractInsnNode[] insns, int start, int invocation) {
+            for (int i = start; i < invocation; i++) {
+                switch (insns[i].getType()) {
+                    case AbstractInsnNode.METHOD_INSN:
+                    case AbstractInsnNode.INVOKE_DYNAMIC_INSN:
+                    case AbstractInsnNode.MULTIANEWARRAY_INSN:
+                        return true;
+                    case AbstractInsnNode.TYPE_INSN:
+                    case AbstractInsnNode.INT_INSN:
+                        int opcode = insns[i].getOpcode();
+                        if (opcode == Opcodes.NEW || opcode == Opcodes.ANEWARRAY || opcode == Opcodes.NEWARRAY) {
+                            return true;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return {@code true} if the control flow can only leave the instructions from {@code start} to
+         *         {@code invocation} after the invocation
+         */
+        private boolean canSkip(AbstractInsnNode[] insns, List<int[]> jumps, int start, int invocation) {
+            for (int i = start; i < invocation; i++) {
+                int opcode = insns[i].getOpcode();
+                if (opcode == Opcodes.ATHROW || opcode == Opcodes.JSR || opcode == Opcodes.RET
+                        || opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN) {
+                    return false;
+                }
+            }
+            for (int[] jump : jumps) {
+                if (isInside(jump[0], start, invocation) && !isInside(jump[1], start, invocation)) {
+                    return false;
+                }
+            }
+            for (TryCatchBlockNode tryCatchBlock : tryCatchBlocks) {
+                if (isInside(instructions.indexOf(tryCatchBlock.start), start, invocation)
+                        || isInside(instructions.indexOf(tryCatchBlock.end), start, invocation)
+                        || isInside(instructions.indexOf(tryCatchBlock.handler), start, invocation)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isInside(int index, int start, int invocation) {
+            return index >= start && index <= invocation;
+        }
+    }
 }
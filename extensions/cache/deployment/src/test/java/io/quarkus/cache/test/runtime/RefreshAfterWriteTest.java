@@ -0,0 +1,69 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the refresh-after-write configuration of Caffeine caches: an expired value is served while the new one is computed
+ * in the background.
+ */
+public class RefreshAfterWriteTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.refresh-after-write", "100ms");
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testRefresh() throws InterruptedException {
+        assertEquals(1, cachedService.cachedMethod());
+        assertEquals(1, cachedService.cachedMethod());
+
+        Thread.sleep(200L);
+        // the current value is served while the refresh happens in the background
+        assertEquals(1, cachedService.cachedMethod());
+        await().until(() -> cachedService.cachedMethod() == 2);
+    }
+
+    @Test
+    public void testRefreshUni() throws InterruptedException {
+        assertEquals(1, cachedService.cachedUniMethod().await().indefinitely());
+        assertEquals(1, cachedService.cachedUniMethod().await().indefinitely());
+
+        Thread.sleep(200L);
+        assertEquals(1, cachedService.cachedUniMethod().await().indefinitely());
+        await().until(() -> cachedService.cachedUniMethod().await().indefinitely() == 2);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final AtomicInteger uniInvocations = new AtomicInteger();
+
+        @CacheResult(cacheName = "refreshed-cache")
+        public int cachedMethod() {
+            return invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = "refreshed-uni-cache")
+        public Uni<Integer> cachedUniMethod() {
+            return Uni.createFrom().item(uniInvocations::incrementAndGet);
+        }
+    }
+}
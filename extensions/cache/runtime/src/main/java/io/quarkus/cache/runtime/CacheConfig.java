@@ -75,6 +75,17 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that an entry should be recomputed in the background once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The recomputation is triggered by the first
+             * read of the entry after that duration; the read, as well as all reads until the recomputation completes, are
+             * served with the current value. If the recomputation fails, the current value is kept.
+             * <p>
+             * Values computed by a blocking method are recomputed on a worker thread, so the method should not rely on
+             * the context of the caller, such as the CDI request context.
+             */
+            Optional<Duration> refreshAfterWrite();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
@@ -3,10 +3,14 @@
 import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -25,6 +29,7 @@
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -45,6 +50,11 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final StatsCounter statsCounter;
     private final boolean recordStats;
 
+    // only set if refresh-after-write is configured
+    private final FixedExpiration<Object, Object> writeExpiration;
+    private final long refreshAfterWriteNanos;
+    private final Set<Object> refreshingKeys;
+
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
@@ -56,6 +66,9 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         }
         if (cacheInfo.expireAfterWrite != null) {
             builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+        } else if (cacheInfo.refreshAfterWrite != null) {
+            // the write-based expiration policy is what tracks the age of the entries
+            builder.expireAfterWrite(Duration.ofNanos(Long.MAX_VALUE));
         }
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
@@ -75,6 +88,15 @@ public StatsCounter get() {
             statsCounter = StatsCounter.disabledStatsCounter();
         }
         cache = builder.buildAsync();
+        if (cacheInfo.refreshAfterWrite != null) {
+            writeExpiration = cache.synchronous().policy().expireAfterWrite().orElseThrow();
+            refreshAfterWriteNanos = cacheInfo.refreshAfterWrite.toNanos();
+            refreshingKeys = ConcurrentHashMap.newKeySet();
+        } else {
+            writeExpiration = null;
+            refreshAfterWriteNanos = 0;
+            refreshingKeys = null;
+        }
     }
 
     @Override
@@ -108,8 +130,7 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
             public Uni<? extends V> apply(io.smallrye.mutiny.Context mutinyContext) {
                 // When stats are enabled we need to call statsCounter.recordHits(1)/statsCounter.recordMisses(1) accordingly
                 StatsRecorder recorder = recordStats ? new OperationalStatsRecorder() : NoopStatsRecorder.INSTANCE;
-                @SuppressWarnings("unchecked")
-                CompletionStage<V> result = (CompletionStage<V>) cache.asMap().computeIfAbsent(key,
+                CompletableFuture<Object> cacheValue = cache.asMap().computeIfAbsent(key,
                         new Function<Object, CompletableFuture<Object>>() {
                             @Override
                             @SuppressWarnings("unchecked")
@@ -121,6 +142,16 @@ public CompletableFuture<Object> apply(Object key) {
                             }
                         });
                 recorder.doRecord(key);
+                refreshIfNeeded(key, cacheValue, new Supplier<CompletionStage<Object>>() {
+                    @Override
+                    public CompletionStage<Object> get() {
+                        return valueLoader.apply(key)
+                                .map(TO_CACHE_VALUE)
+                                .subscribeAsCompletionStage(mutinyContext);
+                    }
+                });
+                @SuppressWarnings("unchecked")
+                CompletionStage<V> result = (CompletionStage<V>) (CompletionStage<?>) cacheValue;
                 return Uni.createFrom().completionStage(result);
             }
         })
@@ -223,10 +254,62 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            refreshIfNeeded(key, existingCacheValue, new Supplier<CompletionStage<Object>>() {
+                @Override
+                public CompletionStage<Object> get() {
+                    return CompletableFuture.supplyAsync(new Supplier<Object>() {
+                        @Override
+                        public Object get() {
+                            return NullValueConverter.toCacheValue(valueLoader.apply(key));
+                        }
+                    }, Infrastructure.getDefaultWorkerPool());
+                }
+            });
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * Recomputes the value of {@code key} in the background if refresh-after-write is configured and the current value is
+     * old enough. The current value is only replaced if it wasn't replaced or invalidated in the meantime.
+     *
+     * @param key cache key
+     * @param cacheValue the current cache value
+     * @param loader supplies the new cache value, already converted with {@link NullValueConverter#toCacheValue(Object)}
+     */
+    private void refreshIfNeeded(Object key, CompletableFuture<Object> cacheValue,
+            Supplier<CompletionStage<Object>> loader) {
+        if (writeExpiration == null || !cacheValue.isDone() || cacheValue.isCompletedExceptionally()) {
+            return;
+        }
+        OptionalLong age = writeExpiration.ageOf(key, TimeUnit.NANOSECONDS);
+        if (age.isEmpty() || age.getAsLong() < refreshAfterWriteNanos || !refreshingKeys.add(key)) {
+            return;
+        }
+        LOGGER.tracef("Refreshing key [%s] in cache [%s]", key, cacheInfo.name);
+        long start = System.nanoTime();
+        CompletionStage<Object> newCacheValue;
+        try {
+            newCacheValue = loader.get();
+        } catch (Throwable t) {
+            newCacheValue = CompletableFuture.failedFuture(t);
+        }
+        newCacheValue.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object value, Throwable failure) {
+                refreshingKeys.remove(key);
+                if (failure == null) {
+                    statsCounter.recordLoadSuccess(System.nanoTime() - start);
+                    cache.asMap().replace(key, cacheValue, CompletableFuture.completedFuture(value));
+                } else {
+                    statsCounter.recordLoadFailure(System.nanoTime() - start);
+                    LOGGER.debugf(failure, "Unable to refresh key [%s] in cache [%s], keeping the current value", key,
+                            cacheInfo.name);
+                }
+            }
+        });
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
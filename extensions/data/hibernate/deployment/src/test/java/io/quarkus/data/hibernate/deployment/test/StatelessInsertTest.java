@@ -0,0 +1,115 @@
+package io.quarkus.data.hibernate.deployment.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.Entity;
+import jakarta.transaction.Transactional;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.data.hibernate.ManagedEntity;
+import io.quarkus.data.hibernate.runtime.spi.PanacheOperations;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class StatelessInsertTest {
+
+    @Entity(name = "Fruit")
+    public static class Fruit extends ManagedEntity {
+        public String name;
+    }
+
+    @Entity(name = "Vegetable")
+    public static class Vegetable extends ManagedEntity {
+        public String name;
+    }
+
+    @RegisterExtension
+    static QuarkusExtensionTest runner = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(Fruit.class, Vegetable.class));
+
+    @Inject
+    Session session;
+
+    @Test
+    void testInsertIterable() {
+        clear();
+        insertIterable(entities());
+        assertInserted();
+    }
+
+    @Test
+    void testInsertStream() {
+        clear();
+        insertStream(entities());
+        assertInserted();
+    }
+
+    @Transactional
+    void insertIterable(List<Object> entities) {
+        PanacheOperations.getBlockingStateless().insert(entities);
+    }
+
+    @Transactional
+    void insertStream(List<Object> entities) {
+        PanacheOperations.getBlockingStateless().insert(entities.stream());
+    }
+
+    @Transactional
+    void clear() {
+        session.createMutationQuery("delete from Fruit").executeUpdate();
+        session.createMutationQuery("delete from Vegetable").executeUpdate();
+    }
+
+    @Transactional
+    void assertInserted() {
+        List<String> fruits = session
+                .createSelectionQuery("select name from Fruit order by id", String.class)
+                .getResultList();
+        List<String> vegetables = session
+                .createSelectionQuery("select name from Vegetable order by id", String.class)
+                .getResultList();
+        Assertions.assertEquals(1210, fruits.size());
+        Assertions.assertEquals(11, vegetables.size());
+        Assertions.assertEquals("fruit0", fruits.get(0));
+        Assertions.assertEquals("fruit1209", fruits.get(1209));
+        Assertions.assertEquals("vegetable0", vegetables.get(0));
+        Assertions.assertEquals("vegetable10", vegetables.get(10));
+    }
+
+    /**
+     * More fruits than the maximum insert batch size, then interleaved fruits and vegetables.
+     */
+    static List<Object> entities() {
+        List<Object> entities = new ArrayList<>();
+        int fruits = 0;
+        for (; fruits < 1200; fruits++) {
+            entities.add(fruit(fruits));
+        }
+        int vegetables = 0;
+        for (; vegetables < 10; vegetables++) {
+            entities.add(vegetable(vegetables));
+            entities.add(fruit(fruits++));
+        }
+        entities.add(vegetable(vegetables));
+        return entities;
+    }
+
+    static Fruit fruit(int index) {
+        Fruit fruit = new Fruit();
+        fruit.name = "fruit" + index;
+        return fruit;
+    }
+
+    static Vegetable vegetable(int index) {
+        Vegetable vegetable = new Vegetable();
+        vegetable.name = "vegetable" + index;
+        return vegetable;
+    }
+}
@@ -6,6 +6,7 @@
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.load.shedding.runtime.AdmissionQueue;
 import io.quarkus.load.shedding.runtime.HttpLoadShedding;
 import io.quarkus.load.shedding.runtime.HttpRequestClassifier;
 import io.quarkus.load.shedding.runtime.ManagementRequestPrioritizer;
@@ -26,6 +27,7 @@ AdditionalBeanBuildItem beans() {
         beans.add(OverloadDetector.class.getName());
         beans.add(HttpLoadShedding.class.getName());
         beans.add(PriorityLoadShedding.class.getName());
+        beans.add(AdmissionQueue.class.getName());
         beans.add(ManagementRequestPrioritizer.class.getName());
         beans.add(HttpRequestClassifier.class.getName());
 
@@ -0,0 +1,102 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.AdmissionQueue;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.ext.web.RoutingContext;
+
+public class QueuePriorityLoadSheddingTest {
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class, MyPrioritizer.class))
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "1")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "1")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false")
+            .overrideConfigKey("quarkus.load-shedding.queue.enabled", "true")
+            .overrideConfigKey("quarkus.load-shedding.queue.max-size", "10")
+            .overrideConfigKey("quarkus.load-shedding.queue.max-wait", "30s");
+
+    @Inject
+    AdmissionQueue queue;
+
+    @Test
+    public void higherPriorityIsAdmittedFirst() throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        threads.add(request("first", RequestPriority.NORMAL));
+        // the only in-flight slot is taken
+        assertThat(MyResource.entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+        threads.add(request("background", RequestPriority.BACKGROUND));
+        await().until(() -> queue.size() == 1);
+        threads.add(request("normal", RequestPriority.NORMAL));
+        await().until(() -> queue.size() == 2);
+        threads.add(request("critical", RequestPriority.CRITICAL));
+        await().until(() -> queue.size() == 3);
+
+        MyResource.release.countDown();
+        for (Thread thread : threads) {
+            thread.join(30_000);
+        }
+
+        assertThat(MyResource.admitted).containsExactly("first", "critical", "normal", "background");
+    }
+
+    private static Thread request(String id, RequestPriority priority) {
+        Thread thread = new Thread(() -> given().header(MyPrioritizer.HEADER, priority.name())
+                .queryParam("id", id)
+                .when().get("/")
+                .then().statusCode(200));
+        thread.start();
+        return thread;
+    }
+
+    @Path("/")
+    public static class MyResource {
+        static final List<String> admitted = new CopyOnWriteArrayList<>();
+        static final CountDownLatch entered = new CountDownLatch(1);
+        static final CountDownLatch release = new CountDownLatch(1);
+
+        @GET
+        public String hello(@QueryParam("id") String id) throws InterruptedException {
+            admitted.add(id);
+            if ("first".equals(id)) {
+                entered.countDown();
+                release.await();
+            }
+            return "Hello, " + id + "!";
+        }
+    }
+
+    @Singleton
+    public static class MyPrioritizer implements RequestPrioritizer<RoutingContext> {
+        static final String HEADER = "X-Priority";
+
+        @Override
+        public boolean appliesTo(Object request) {
+            return request instanceof RoutingContext ctx && ctx.request().getHeader(HEADER) != null;
+        }
+
+        @Override
+        public RequestPriority priority(RoutingContext request) {
+            return RequestPriority.valueOf(request.request().getHeader(HEADER));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.Test;
+
+public class OverloadDetectorTest {
+    private static final int NUM_THREADS = 8;
+    private static final int NUM_ITERATIONS = 200_000;
+
+    @Test
+    public void limitIncreasesWhenRequestTimeIsStable() throws Exception {
+        OverloadDetector detector = new OverloadDetector(config(10, 100));
+        run(detector, () -> 1_000);
+        assertThat(detector.currentLimit()).isEqualTo(100);
+    }
+
+    @Test
+    public void limitDecreasesWhenRequestTimeVaries() throws Exception {
+        OverloadDetector detector = new OverloadDetector(config(1_000, 1_000));
+        // most requests take much longer than the fastest ones, which means they are queued
+        run(detector, () -> 1_000 + ThreadLocalRandom.current().nextInt(2_000));
+        assertThat(detector.currentLimit()).isBetween(1L, 200L);
+    }
+
+    // each thread keeps as many requests in flight as the detector allows, so that the limit is always reached
+    private static void run(OverloadDetector detector, LongSupplier requestTime) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < NUM_THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    int inFlight = 0;
+                    for (int j = 0; j < NUM_ITERATIONS; j++) {
+                        if (detector.tryRequestBegin()) {
+                            inFlight++;
+                        } else if (inFlight > 0) {
+                            detector.requestEnd(requestTime.getAsLong());
+                            inFlight--;
+                        }
+                    }
+                    while (inFlight > 0) {
+                        detector.requestCancelled();
+                        inFlight--;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static LoadSheddingRuntimeConfig config(int initialLimit, int maxLimit) {
+        return new LoadSheddingRuntimeConfig() {
+            @Override
+            public boolean enabled() {
+                return true;
+            }
+
+            @Override
+            public int maxLimit() {
+                return maxLimit;
+            }
+
+            @Override
+            public int alphaFactor() {
+                return 3;
+            }
+
+            @Override
+            public int betaFactor() {
+                return 6;
+            }
+
+            @Override
+            public double probeFactor() {
+                return 30.0;
+            }
+
+            @Override
+            public int initialLimit() {
+                return initialLimit;
+            }
+
+            @Override
+            public LoadSheddingRuntimeConfig.PriorityLoadShedding priority() {
+                return null;
+            }
+
+            @Override
+            public LoadSheddingRuntimeConfig.AdmissionQueue queue() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,168 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.quarkus.load.shedding.RequestPriority;
+import io.vertx.core.Context;
+
+/**
+ * A bounded queue of requests that would otherwise be rejected, because an overload situation was signalled.
+ * <p>
+ * There is a separate lane for each {@link RequestPriority}. When a request completes and the service is not
+ * overloaded anymore, waiting requests are admitted from the highest priority lane first. Similarly to CoDel,
+ * a request that spent more than the maximum wait time in the queue is rejected instead of admitted.
+ */
+@Singleton
+public class AdmissionQueue {
+    private final OverloadDetector detector;
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long maxWaitMillis;
+    private final long maxWaitNanos;
+
+    private final ConcurrentLinkedQueue<Waiter>[] lanes;
+    private final AtomicInteger size = new AtomicInteger();
+
+    @Inject
+    @SuppressWarnings("unchecked")
+    AdmissionQueue(OverloadDetector detector, LoadSheddingRuntimeConfig config) {
+        this.detector = detector;
+        enabled = config.queue().enabled();
+        maxSize = config.queue().maxSize();
+        maxWaitMillis = Math.max(1, config.queue().maxWait().toMillis());
+        maxWaitNanos = config.queue().maxWait().toNanos();
+        lanes = new ConcurrentLinkedQueue[RequestPriority.values().length];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Puts the waiter into the lane of given {@code priority}. The waiter is eventually either
+     * {@linkplain Waiter#admit() admitted} or {@linkplain Waiter#reject() rejected}, always on its own context.
+     *
+     * @return {@code false} if the queue is disabled or full, in which case the caller should reject the request
+     */
+    public boolean enqueue(RequestPriority priority, Waiter waiter) {
+        if (!enabled) {
+            return false;
+        }
+        int current;
+        do {
+            current = size.get();
+            if (current >= maxSize) {
+                return false;
+            }
+        } while (!size.compareAndSet(current, current + 1));
+
+        ConcurrentLinkedQueue<Waiter> lane = lanes[priority.ordinal()];
+        waiter.enqueuedAt = System.nanoTime();
+        lane.add(waiter);
+        waiter.timerId = waiter.context.owner().setTimer(maxWaitMillis, ignored -> {
+            if (waiter.complete()) {
+                lane.remove(waiter);
+                size.decrementAndGet();
+                waiter.reject();
+            }
+        });
+
+        // all in-flight requests might have completed in the meantime, in which case nobody would admit the waiter
+        admitWaiting();
+        return true;
+    }
+
+    /**
+     * Admits waiting requests, highest priority first, for as long as the service is not overloaded.
+     * Should be called whenever an in-flight request completes.
+     */
+    public void admitWaiting() {
+        if (size.get() == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (ConcurrentLinkedQueue<Waiter> lane : lanes) {
+            while (!lane.isEmpty()) {
+                // the slot is reserved first, so that concurrent callers cannot admit more requests than the limit
+                if (!detector.tryRequestBegin()) {
+                    return;
+                }
+                Waiter waiter = pollAdmissible(lane, now);
+                if (waiter == null) {
+                    detector.requestCancelled();
+                    break;
+                }
+                waiter.context.runOnContext(ignored -> waiter.admit());
+            }
+        }
+    }
+
+    /**
+     * Returns the first waiter of given {@code lane} that may be admitted. The waiters that
+     * spent more than the maximum wait time in the queue are rejected on the way.
+     */
+    private Waiter pollAdmissible(ConcurrentLinkedQueue<Waiter> lane, long now) {
+        Waiter waiter;
+        while ((waiter = lane.poll()) != null) {
+            if (!waiter.complete()) {
+                // already rejected by the timer
+                continue;
+            }
+            size.decrementAndGet();
+            waiter.context.owner().cancelTimer(waiter.timerId);
+            if (now - waiter.enqueuedAt > maxWaitNanos) {
+                Waiter rejected = waiter;
+                waiter.context.runOnContext(ignored -> rejected.reject());
+            } else {
+                return waiter;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of waiting requests
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * A request waiting in the {@link AdmissionQueue}.
+     */
+    public abstract static class Waiter {
+        private final Context context;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        // written before the waiter is published to other threads
+        private long enqueuedAt;
+        // may be set after the waiter is already admitted, in which case the timer fires and does nothing
+        private volatile long timerId = -1;
+
+        protected Waiter(Context context) {
+            this.context = context;
+        }
+
+        private boolean complete() {
+            return completed.compareAndSet(false, true);
+        }
+
+        /**
+         * Called when the request may proceed. The request is already counted as in-flight
+         * by the {@link OverloadDetector}. If the request cannot proceed anymore, for example
+         * because the client went away, {@link OverloadDetector#requestCancelled()} must be called,
+         * followed by {@link AdmissionQueue#admitWaiting()}.
+         */
+        protected abstract void admit();
+
+        /**
+         * Called when the request waited too long and must be rejected.
+         */
+        protected abstract void reject();
+    }
+}
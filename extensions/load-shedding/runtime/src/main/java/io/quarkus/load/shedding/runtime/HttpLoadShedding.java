@@ -10,40 +10,73 @@
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
 
 @Singleton
 public class HttpLoadShedding {
     public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDetector detector,
-            PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
+            PriorityLoadShedding priority, AdmissionQueue queue, LoadSheddingRuntimeConfig config) {
 
         if (!config.enabled()) {
             return;
         }
 
         router.route().order(-1_000_000_000).handler(ctx -> {
-            if (detector.isOverloaded() && priority.shedLoad(ctx)) {
-                HttpServerResponse response = ctx.response();
-                response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
-                response.headers().add(HttpHeaderNames.CONNECTION, "close");
-                response.endHandler(new Handler<Void>() {
-                    @Override
-                    public void handle(Void ignored) {
-                        ctx.request().connection().close();
-                    }
-                });
-                response.end();
+            if (detector.tryRequestBegin()) {
+                proceed(ctx, detector, queue);
+            } else if (priority.shedLoad(ctx)) {
+                boolean queued = queue.enqueue(priority.priority(ctx),
+                        new AdmissionQueue.Waiter(ctx.vertx().getOrCreateContext()) {
+                            @Override
+                            protected void admit() {
+                                if (ctx.response().closed()) {
+                                    // the client went away while waiting, the end handler would never be called
+                                    detector.requestCancelled();
+                                    queue.admitWaiting();
+                                    return;
+                                }
+                                proceed(ctx, detector, queue);
+                            }
+
+                            @Override
+                            protected void reject() {
+                                HttpLoadShedding.reject(ctx);
+                            }
+                        });
+                if (!queued) {
+                    reject(ctx);
+                }
             } else {
                 detector.requestBegin();
-                long start = System.nanoTime();
-                ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
-                    @Override
-                    public void handle(AsyncResult<Void> ignored) {
-                        long end = System.nanoTime();
-                        detector.requestEnd((end - start) / 1_000);
-                    }
-                });
-                ctx.next();
+                proceed(ctx, detector, queue);
+            }
+        });
+    }
+
+    private static void reject(RoutingContext ctx) {
+        HttpServerResponse response = ctx.response();
+        response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
+        response.headers().add(HttpHeaderNames.CONNECTION, "close");
+        response.endHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                ctx.request().connection().close();
+            }
+        });
+        response.end();
+    }
+
+    // the request must already be counted as in-flight
+    private static void proceed(RoutingContext ctx, OverloadDetector detector, AdmissionQueue queue) {
+        long start = System.nanoTime();
+        ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> ignored) {
+                long end = System.nanoTime();
+                detector.requestEnd((end - start) / 1_000);
+                queue.admitWaiting();
             }
         });
+        ctx.next();
     }
 }
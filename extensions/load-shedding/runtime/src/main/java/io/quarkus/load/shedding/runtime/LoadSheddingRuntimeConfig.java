@@ -1,5 +1,7 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -59,4 +61,34 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    /**
+     * Configuration of the admission queue.
+     */
+    AdmissionQueue queue();
+
+    @ConfigGroup
+    interface AdmissionQueue {
+        /**
+         * Whether requests that would be rejected due to overload should wait in a queue instead,
+         * until they can be admitted or until the maximum wait time elapses.
+         * Waiting requests are admitted in the order of their priority.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum number of requests waiting in the queue.
+         * When the queue is full, requests are rejected immediately.
+         */
+        @WithDefault("100")
+        int maxSize();
+
+        /**
+         * The maximum time a request may spend waiting in the queue.
+         * Requests that waited longer are rejected.
+         */
+        @WithDefault("100ms")
+        Duration maxWait();
+    }
 }
@@ -1,7 +1,9 @@
 package io.quarkus.load.shedding.runtime;
 
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -9,6 +11,13 @@
 /**
  * An overload detector based on TCP Vegas, as implemented by
  * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit is updated from request completions, which happen concurrently on all event loops.
+ * Every completion counts towards the next probe and may lower the minimum request time, which are
+ * both updated atomically. Instead of serializing the limit adjustments, a completion that finds
+ * another adjustment in progress doesn't adjust the limit. Under high load, there are plenty of samples,
+ * so skipping some of them doesn't affect the computed limit, while the detector no longer becomes
+ * a point of contention.
  */
 @Singleton
 public class OverloadDetector {
@@ -29,9 +38,12 @@ public class OverloadDetector {
     private final AtomicInteger currentRequests = new AtomicInteger();
     private volatile long currentLimit;
 
-    private long lowestRequestTime = Long.MAX_VALUE;
-    private double probeCount = 0.0;
-    private double probeJitter;
+    private final AtomicLong lowestRequestTime = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong probeCount = new AtomicLong();
+    private volatile double probeJitter;
+
+    // guards the adjustment of the limit
+    private final AtomicBoolean updating = new AtomicBoolean();
 
     @Inject
     public OverloadDetector(LoadSheddingRuntimeConfig config) {
@@ -43,6 +55,11 @@ public OverloadDetector(LoadSheddingRuntimeConfig config) {
         resetProbeJitter();
     }
 
+    // visible for testing
+    long currentLimit() {
+        return currentLimit;
+    }
+
     public boolean isOverloaded() {
         return currentRequests.get() >= currentLimit;
     }
@@ -51,26 +68,62 @@ public void requestBegin() {
         currentRequests.incrementAndGet();
     }
 
-    public void requestEnd(long timeInMicros) {
-        int current = currentRequests.getAndDecrement();
+    /**
+     * Counts the request as in-flight, unless the service is overloaded. Unlike {@link #isOverloaded()}
+     * followed by {@link #requestBegin()}, concurrent callers cannot exceed the current limit.
+     *
+     * @return whether the request was counted as in-flight
+     */
+    public boolean tryRequestBegin() {
+        int current;
+        do {
+            current = currentRequests.get();
+            if (current >= currentLimit) {
+                return false;
+            }
+        } while (!currentRequests.compareAndSet(current, current + 1));
+        return true;
+    }
 
-        update(timeInMicros, current);
+    /**
+     * Stops counting a request that was counted as in-flight, but did not actually proceed.
+     * Unlike {@link #requestEnd(long)}, the limit is not updated.
+     */
+    public void requestCancelled() {
+        currentRequests.decrementAndGet();
     }
 
-    private synchronized void update(long requestTime, int currentRequests) {
-        probeCount++;
-        if (probeFactor * probeJitter * currentLimit <= probeCount) {
-            resetProbeJitter();
-            probeCount = 0.0;
-            lowestRequestTime = requestTime;
+    public void requestEnd(long timeInMicros) {
+        int current = currentRequests.getAndDecrement();
+
+        long probe = probeCount.incrementAndGet();
+        if (probeFactor * probeJitter * currentLimit <= probe) {
+            // only one of the completions that reach the probe starts the next one
+            if (probeCount.compareAndSet(probe, 0)) {
+                resetProbeJitter();
+                lowestRequestTime.set(timeInMicros);
+            }
             return;
         }
 
-        if (requestTime < lowestRequestTime) {
-            lowestRequestTime = requestTime;
-            return;
+        long lowest = lowestRequestTime.get();
+        while (timeInMicros < lowest) {
+            if (lowestRequestTime.compareAndSet(lowest, timeInMicros)) {
+                return;
+            }
+            lowest = lowestRequestTime.get();
         }
 
+        if (updating.compareAndSet(false, true)) {
+            try {
+                update(timeInMicros, current, lowest);
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+
+    private void update(long requestTime, int currentRequests, long lowestRequestTime) {
         long currentLimit = this.currentLimit;
 
         if (2L * currentRequests < currentLimit) {
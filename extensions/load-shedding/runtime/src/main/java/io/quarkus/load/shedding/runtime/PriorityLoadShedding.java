@@ -63,13 +63,7 @@ public boolean shedLoad(Object request) {
             return true;
         }
 
-        RequestPriority priority = RequestPriority.NORMAL;
-        for (RequestPrioritizer requestPrioritizer : requestPrioritizers) {
-            if (requestPrioritizer.appliesTo(request)) {
-                priority = requestPrioritizer.priority(request);
-                break;
-            }
-        }
+        RequestPriority priority = priority(request);
 
         int cohort = 64; // in the middle of the [1,128] interval
         for (RequestClassifier requestClassifier : requestClassifiers) {
@@ -90,4 +84,13 @@ public boolean shedLoad(Object request) {
 
         return priority.cohortBaseline() + cohort > threshold;
     }
+
+    public RequestPriority priority(Object request) {
+        for (RequestPrioritizer requestPrioritizer : requestPrioritizers) {
+            if (requestPrioritizer.appliesTo(request)) {
+                return requestPrioritizer.priority(request);
+            }
+        }
+        return RequestPriority.NORMAL;
+    }
 }
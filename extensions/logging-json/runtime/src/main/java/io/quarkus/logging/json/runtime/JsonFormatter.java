@@ -3,7 +3,6 @@
 import static io.quarkus.logging.json.runtime.JsonFormatter.AdditionalKey.SPAN_ID;
 import static io.quarkus.logging.json.runtime.JsonFormatter.AdditionalKey.TRACE;
 import static io.quarkus.logging.json.runtime.JsonFormatter.AdditionalKey.TRACE_SAMPLED;
-import static io.quarkus.logging.json.runtime.JsonLogConfig.AdditionalFieldConfig.Type.STRING;
 import static java.util.Optional.ofNullable;
 
 import java.io.Writer;
@@ -15,12 +14,12 @@
 import java.util.Map;
 import java.util.Set;
 
-import jakarta.enterprise.inject.spi.CDI;
-
 import org.jboss.logging.Logger;
 import org.jboss.logmanager.ExtLogRecord;
 import org.jboss.logmanager.formatters.StructuredFormatter.Key;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
 import io.quarkus.logging.json.runtime.JsonLogConfig.JsonConfig.LogFormat;
 
 public class JsonFormatter extends org.jboss.logmanager.formatters.JsonFormatter {
@@ -167,21 +166,24 @@ protected void after(final Generator generator, final ExtLogRecord record) throw
         } else if (logFormat.equals(LogFormat.GCP)) {
             final Map<String, String> mdcCopy = record.getMdcCopy();
             if (!mdcCopy.isEmpty()) {
-                Map<String, AdditionalField> current = new HashMap<>(additionalFields);
-                current.computeIfPresent(TRACE.getKey(), (key, value) -> {
-                    final String traceId = mdcCopy.get("traceId");
-                    if (traceId != null && !traceId.isEmpty()) {
-                        return new AdditionalField(tracePrefix + traceId, STRING);
+                // The trace fields are written directly, i.e. without copying the additional fields for each record
+                for (var entry : additionalFields.entrySet()) {
+                    final String key = entry.getKey();
+                    if (TRACE.getKey().equals(key)) {
+                        final String traceId = mdcCopy.get("traceId");
+                        if (traceId != null && !traceId.isEmpty()) {
+                            generator.add(key, tracePrefix + traceId);
+                        } else {
+                            addToGenerator(key, entry.getValue(), generator);
+                        }
+                    } else if (SPAN_ID.getKey().equals(key)) {
+                        generator.add(key, ofNullable(mdcCopy.get("spanId")).orElse(""));
+                    } else if (TRACE_SAMPLED.getKey().equals(key)) {
+                        generator.add(key, ofNullable(mdcCopy.get("sampled")).orElse(""));
                     } else {
-                        return value;
+                        addToGenerator(key, entry.getValue(), generator);
                     }
-                });
-                current.computeIfPresent(SPAN_ID.getKey(),
-                        (key, value) -> new AdditionalField(ofNullable(mdcCopy.get("spanId")).orElse(""), STRING));
-                current.computeIfPresent(TRACE_SAMPLED.getKey(),
-                        (key, value) -> new AdditionalField(ofNullable(mdcCopy.get("sampled")).orElse(""), STRING));
-
-                addToGenerator(current, generator);
+                }
             } else {
                 // fast path
                 addToGenerator(additionalFields, generator);
@@ -193,9 +195,12 @@ protected void after(final Generator generator, final ExtLogRecord record) throw
             addToGenerator(additionalFields, generator);
         }
 
-        JsonLogGenerator jsonLogGenerator = new JsonLogGenerator(generator, this.excludedKeys);
-        for (JsonProvider provider : getJsonProviders()) {
-            provider.writeTo(jsonLogGenerator, record);
+        List<JsonProvider> providers = getJsonProviders();
+        if (!providers.isEmpty()) {
+            JsonLogGenerator jsonLogGenerator = new JsonLogGenerator(generator, this.excludedKeys);
+            for (JsonProvider provider : providers) {
+                provider.writeTo(jsonLogGenerator, record);
+            }
         }
     }
 
@@ -203,9 +208,15 @@ private List<JsonProvider> getJsonProviders() {
         if (jsonProviders != null) {
             return jsonProviders;
         }
+        // Records logged before the container is started, e.g. during boot, must not pay for a failed CDI lookup
+        ArcContainer container = Arc.container();
+        if (container == null || !container.isRunning()) {
+            LOG.debug("CDI not available, JsonProvider CDI beans will not be loaded");
+            return discoveredProviders;
+        }
         List<JsonProvider> result = new ArrayList<>(discoveredProviders);
         try {
-            CDI.current().select(JsonProvider.class).forEach(result::add);
+            container.select(JsonProvider.class).forEach(result::add);
             jsonProviders = Collections.unmodifiableList(result);
         } catch (Throwable ignored) {
             LOG.debug("CDI not available, JsonProvider CDI beans will not be loaded");
@@ -215,17 +226,21 @@ private List<JsonProvider> getJsonProviders() {
 
     private void addToGenerator(Map<String, AdditionalField> fields, Generator generator) throws Exception {
         for (var entry : fields.entrySet()) {
-            switch (entry.getValue().type()) {
-                case STRING:
-                    generator.add(entry.getKey(), entry.getValue().value());
-                    break;
-                case INT:
-                    generator.add(entry.getKey(), Integer.valueOf(entry.getValue().value()));
-                    break;
-                case LONG:
-                    generator.add(entry.getKey(), Long.valueOf(entry.getValue().value()));
-                    break;
-            }
+            addToGenerator(entry.getKey(), entry.getValue(), generator);
+        }
+    }
+
+    private void addToGenerator(String key, AdditionalField field, Generator generator) throws Exception {
+        switch (field.type()) {
+            case STRING:
+                generator.add(key, field.value());
+                break;
+            case INT:
+                generator.add(key, Integer.valueOf(field.value()));
+                break;
+            case LONG:
+                generator.add(key, Long.valueOf(field.value()));
+                break;
         }
     }
 
@@ -17,6 +17,9 @@
 public class HttpRequestMetric extends RequestMetricInfo {
     public static final Pattern VERTX_ROUTE_PARAM = Pattern.compile("^:(.*)$");
 
+    /** Maximum number of vert.x paths in {@link #vertxWebToUriTemplate} */
+    static final int MAX_CACHED_ROUTES = 1000;
+
     /** Cache of vert.x resolved paths: /item/:id --> /item/{id} */
     final static ConcurrentHashMap<String, String> vertxWebToUriTemplate = new ConcurrentHashMap<>();
 
@@ -73,18 +76,28 @@ public String applyTemplateMatching(String path) {
         // vertx-web or reactive route: is it templated?
         if (currentRoutePath != null && currentRoutePath.contains(":")) {
             // Convert /item/:id to /item/{id} and save it for next time
-            return vertxWebToUriTemplate.computeIfAbsent(currentRoutePath, k -> {
-                String segments[] = k.split("/");
-                for (int i = 0; i < segments.length; i++) {
-                    segments[i] = VERTX_ROUTE_PARAM.matcher(segments[i]).replaceAll("{$1}");
-                }
-                return normalizePath(String.join("/", segments));
-            });
+            String uriTemplate = vertxWebToUriTemplate.get(currentRoutePath);
+            if (uriTemplate != null) {
+                return uriTemplate;
+            }
+            if (vertxWebToUriTemplate.size() >= MAX_CACHED_ROUTES) {
+                // Do not let dynamically added routes grow the cache without bounds
+                return toUriTemplate(currentRoutePath);
+            }
+            return vertxWebToUriTemplate.computeIfAbsent(currentRoutePath, HttpRequestMetric::toUriTemplate);
         }
 
         return path;
     }
 
+    private static String toUriTemplate(String routePath) {
+        String segments[] = routePath.split("/");
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = VERTX_ROUTE_PARAM.matcher(segments[i]).replaceAll("{$1}");
+        }
+        return normalizePath(String.join("/", segments));
+    }
+
     public HttpServerRequestInternal request() {
         return request;
     }
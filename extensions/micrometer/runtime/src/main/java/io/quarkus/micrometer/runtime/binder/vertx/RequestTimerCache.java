@@ -0,0 +1,82 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Cache of the HTTP server request timers, indexed by URI tag value, HTTP method and status code.
+ * <p>
+ * Recording a request with a cached timer neither builds the {@code Tags} nor looks up the timer in the registry.
+ * The number of cached URIs is bounded; the requests for other URIs use the registry, where the
+ * {@code max-uri-tags} meter filter applies.
+ * <p>
+ * The cache is cleared when a timer with the given name is removed from the registry, so that a removed timer is never
+ * used to record a request.
+ */
+final class RequestTimerCache {
+
+    private static final int MIN_STATUS = 100;
+    private static final int MAX_STATUS = 599;
+
+    // see HttpCommonTags
+    private static final int MAX_METHODS = 32;
+
+    private final int maxUris;
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, AtomicReferenceArray<Timer>>> timers = new ConcurrentHashMap<>();
+
+    RequestTimerCache(int maxUris, MeterRegistry registry, String timerName) {
+        this.maxUris = maxUris;
+        registry.config().onMeterRemoved(meter -> {
+            if (meter instanceof Timer && meter.getId().getName().equals(timerName)) {
+                clear();
+            }
+        });
+    }
+
+    /**
+     * @return the cached timer, or {@code null} if not cached
+     */
+    Timer get(String uri, String method, int status) {
+        if (status < MIN_STATUS || status > MAX_STATUS) {
+            return null;
+        }
+        ConcurrentHashMap<String, AtomicReferenceArray<Timer>> byMethod = timers.get(uri);
+        if (byMethod == null) {
+            return null;
+        }
+        AtomicReferenceArray<Timer> byStatus = byMethod.get(method);
+        if (byStatus == null) {
+            return null;
+        }
+        return byStatus.get(status - MIN_STATUS);
+    }
+
+    void put(String uri, String method, int status, Timer timer) {
+        if (status < MIN_STATUS || status > MAX_STATUS) {
+            return;
+        }
+        ConcurrentHashMap<String, AtomicReferenceArray<Timer>> byMethod = timers.get(uri);
+        if (byMethod == null) {
+            if (timers.size() >= maxUris) {
+                return;
+            }
+            byMethod = timers.computeIfAbsent(uri, k -> new ConcurrentHashMap<>());
+        }
+        AtomicReferenceArray<Timer> byStatus = byMethod.get(method);
+        if (byStatus == null) {
+            if (byMethod.size() >= MAX_METHODS) {
+                return;
+            }
+            byStatus = byMethod.computeIfAbsent(method, k -> new AtomicReferenceArray<>(MAX_STATUS - MIN_STATUS + 1));
+        }
+        byStatus.set(status - MIN_STATUS, timer);
+    }
+
+    void clear() {
+        timers.clear();
+    }
+}
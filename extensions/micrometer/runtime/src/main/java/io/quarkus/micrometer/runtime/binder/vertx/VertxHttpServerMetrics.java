@@ -12,6 +12,7 @@
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.Meter.MeterProvider;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.http.Outcome;
@@ -22,6 +23,7 @@
 import io.quarkus.micrometer.runtime.binder.HttpCommonTags;
 import io.quarkus.micrometer.runtime.export.exemplars.OpenTelemetryContextUnwrapper;
 import io.quarkus.micrometer.runtime.meters.Gauges;
+import io.quarkus.runtime.LaunchMode;
 import io.smallrye.common.vertx.VertxContext;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerConfig;
@@ -55,6 +57,12 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
 
     private final List<HttpServerMetricsTagsContributor> httpServerMetricsTagsContributors;
 
+    /**
+     * The timers are cached only if the tags do not depend on contributors. Not used in dev mode, where the meters are
+     * removed on restart.
+     */
+    private final RequestTimerCache requestTimerCache;
+
     VertxHttpServerMetrics(MeterRegistry registry,
             HttpBinderConfiguration config,
             OpenTelemetryContextUnwrapper openTelemetryContextUnwrapper, HttpServerConfig httpServerConfig,
@@ -71,6 +79,9 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
                 .register(registry);
 
         httpServerMetricsTagsContributors = resolveHttpServerMetricsTagsContributors();
+        requestTimerCache = httpServerMetricsTagsContributors.isEmpty() && LaunchMode.current() != LaunchMode.DEVELOPMENT
+                ? new RequestTimerCache(config.getServerMaxUriTags(), registry, config.getHttpServerRequestsName())
+                : null;
 
         // not dev-mode changeable -----
         requestsTimer = Timer.builder(config.getHttpServerRequestsName())
@@ -257,17 +268,30 @@ public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response,
                 config.getServerIgnorePatterns());
         if (path != null) {
             Timer.Sample sample = requestMetric.getSample();
-            Tags originalTags = Tags.of(
-                    VertxMetricsTags.method(requestMetric.httpRequest().method()),
-                    HttpCommonTags.uri(path, requestMetric.getInitialPath(), response.statusCode(),
-                            config.isServerSuppress4xxErrors()),
-                    VertxMetricsTags.outcome(response),
-                    HttpCommonTags.status(response.statusCode()));
-            Tags effectiveTags = effectiveTags(requestMetric, Optional.of(response), originalTags);
+            HttpMethod method = requestMetric.httpRequest().method();
+            int statusCode = response.statusCode();
+            Tag uriTag = HttpCommonTags.uri(path, requestMetric.getInitialPath(), statusCode,
+                    config.isServerSuppress4xxErrors());
+            Timer timer = null;
+            if (requestTimerCache != null && method != null) {
+                timer = requestTimerCache.get(uriTag.getValue(), method.name(), statusCode);
+            }
+            if (timer == null) {
+                Tags originalTags = Tags.of(
+                        VertxMetricsTags.method(method),
+                        uriTag,
+                        VertxMetricsTags.outcome(response),
+                        HttpCommonTags.status(statusCode));
+                Tags effectiveTags = effectiveTags(requestMetric, Optional.of(response), originalTags);
+                timer = requestsTimer.withTags(effectiveTags);
+                if (requestTimerCache != null && method != null) {
+                    requestTimerCache.put(uriTag.getValue(), method.name(), statusCode, timer);
+                }
+            }
             io.vertx.core.Context ctx = requestMetric.request() != null ? requestMetric.request().context() : null;
             openTelemetryContextUnwrapper.executeInContext(
                     sample::stop,
-                    requestsTimer.withTags(effectiveTags),
+                    timer,
                     ctx);
         }
         requestMetric.requestEnded();
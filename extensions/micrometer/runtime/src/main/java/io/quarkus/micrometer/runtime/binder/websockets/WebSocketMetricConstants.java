@@ -63,6 +63,16 @@ private WebSocketMetricConstants() {
      */
     public static final String CLIENT_BYTES = "quarkus.websockets.client.bytes";
 
+    /**
+     * Counts broadcast messages not sent to server connections that do not keep up with the outbound messages.
+     */
+    public static final String SERVER_BROADCAST_SLOW_CONSUMERS = "quarkus.websockets.server.broadcast.slow.consumers";
+
+    /**
+     * Slow consumer strategy tag key, added to the {@link #SERVER_BROADCAST_SLOW_CONSUMERS} metric.
+     */
+    public static final String STRATEGY_TAG_KEY = "strategy";
+
     /**
      * {@link Direction} tag key.
      */
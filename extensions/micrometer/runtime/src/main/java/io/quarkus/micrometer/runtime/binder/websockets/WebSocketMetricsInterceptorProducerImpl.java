@@ -3,6 +3,7 @@
 import static io.quarkus.micrometer.runtime.binder.websockets.WebSocketMetricConstants.DIRECTION_TAG_KEY;
 import static io.quarkus.micrometer.runtime.binder.websockets.WebSocketMetricConstants.Direction.INBOUND;
 import static io.quarkus.micrometer.runtime.binder.websockets.WebSocketMetricConstants.Direction.OUTBOUND;
+import static io.quarkus.micrometer.runtime.binder.websockets.WebSocketMetricConstants.STRATEGY_TAG_KEY;
 
 import jakarta.enterprise.context.Dependent;
 
@@ -47,8 +48,12 @@ public WebSocketMetricsInterceptor createServerMetricsInterceptor() {
                 .builder(WebSocketMetricConstants.SERVER_CONNECTION_ON_OPEN_ERROR)
                 .description("Number of failures occurred when opening server connection failed.")
                 .withRegistry(meterRegistry);
+        final Meter.MeterProvider<Counter> slowConsumersCounter = Counter
+                .builder(WebSocketMetricConstants.SERVER_BROADCAST_SLOW_CONSUMERS)
+                .description("Number of broadcast messages not sent to server connections with a full write queue.")
+                .withRegistry(meterRegistry);
         return new WebSocketMetricsInterceptorImpl(messagesCounter, bytesCounter, closedConnectionCounter, serverErrorsCounter,
-                connectionOpenCounter, connectionOnOpenErrorsCounter);
+                connectionOpenCounter, connectionOnOpenErrorsCounter, slowConsumersCounter);
     }
 
     @Override
@@ -78,7 +83,7 @@ public WebSocketMetricsInterceptor createClientMetricsInterceptor() {
                 .description("Number of failures occurred when opening client connection failed.")
                 .withRegistry(meterRegistry);
         return new WebSocketMetricsInterceptorImpl(messagesCounter, bytesCounter, closedConnectionCounter, clientErrorsCounter,
-                connectionOpenCounter, connectionOnOpenErrorsCounter);
+                connectionOpenCounter, connectionOnOpenErrorsCounter, null);
     }
 
     private static final class WebSocketMetricsInterceptorImpl implements WebSocketMetricsInterceptor {
@@ -89,17 +94,20 @@ private static final class WebSocketMetricsInterceptorImpl implements WebSocketM
         private final Meter.MeterProvider<Counter> errorsCounter;
         private final Meter.MeterProvider<Counter> connectionOpenCounter;
         private final Meter.MeterProvider<Counter> connectionOnOpenErrorsCounter;
+        private final Meter.MeterProvider<Counter> slowConsumersCounter;
 
         private WebSocketMetricsInterceptorImpl(Meter.MeterProvider<Counter> messagesCounter,
                 Meter.MeterProvider<Counter> bytesCounter, Meter.MeterProvider<Counter> closedConnectionCounter,
                 Meter.MeterProvider<Counter> errorsCounter, Meter.MeterProvider<Counter> connectionOpenCounter,
-                Meter.MeterProvider<Counter> connectionOnOpenErrorsCounter) {
+                Meter.MeterProvider<Counter> connectionOnOpenErrorsCounter,
+                Meter.MeterProvider<Counter> slowConsumersCounter) {
             this.messagesCounter = messagesCounter;
             this.bytesCounter = bytesCounter;
             this.closedConnectionCounter = closedConnectionCounter;
             this.errorsCounter = errorsCounter;
             this.connectionOpenCounter = connectionOpenCounter;
             this.connectionOnOpenErrorsCounter = connectionOnOpenErrorsCounter;
+            this.slowConsumersCounter = slowConsumersCounter;
         }
 
         @Override
@@ -133,5 +141,12 @@ public void onConnectionOpeningFailed(String route) {
         public void onConnectionClosed(String route) {
             closedConnectionCounter.withTag(URI_TAG_KEY, route).increment();
         }
+
+        @Override
+        public void onSlowConsumer(String route, String strategy) {
+            if (slowConsumersCounter != null) {
+                slowConsumersCounter.withTags(URI_TAG_KEY, route, STRATEGY_TAG_KEY, strategy).increment();
+            }
+        }
     }
 }
@@ -0,0 +1,66 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class RequestTimerCacheTest {
+
+    final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    public void testCachedTimer() {
+        RequestTimerCache cache = new RequestTimerCache(10, registry, "http.server.requests");
+        Timer timer = Timer.builder("http.server.requests").tag("uri", "/item/{id}").register(registry);
+
+        Assertions.assertNull(cache.get("/item/{id}", "GET", 200));
+        cache.put("/item/{id}", "GET", 200, timer);
+        Assertions.assertSame(timer, cache.get("/item/{id}", "GET", 200));
+        Assertions.assertNull(cache.get("/item/{id}", "GET", 500));
+        Assertions.assertNull(cache.get("/item/{id}", "POST", 200));
+        Assertions.assertNull(cache.get("/other", "GET", 200));
+    }
+
+    @Test
+    public void testMaxUris() {
+        RequestTimerCache cache = new RequestTimerCache(1, registry, "http.server.requests");
+        Timer first = Timer.builder("http.server.requests").tag("uri", "/first").register(registry);
+        Timer second = Timer.builder("http.server.requests").tag("uri", "/second").register(registry);
+
+        cache.put("/first", "GET", 200, first);
+        cache.put("/second", "GET", 200, second);
+        Assertions.assertSame(first, cache.get("/first", "GET", 200));
+        Assertions.assertNull(cache.get("/second", "GET", 200));
+
+        // the cached URIs can still get new methods and status codes
+        cache.put("/first", "POST", 201, first);
+        Assertions.assertSame(first, cache.get("/first", "POST", 201));
+    }
+
+    @Test
+    public void testInvalidStatus() {
+        RequestTimerCache cache = new RequestTimerCache(10, registry, "http.server.requests");
+        Timer timer = Timer.builder("http.server.requests").tag("uri", "/item").register(registry);
+
+        cache.put("/item", "GET", 0, timer);
+        cache.put("/item", "GET", 600, timer);
+        Assertions.assertNull(cache.get("/item", "GET", 0));
+        Assertions.assertNull(cache.get("/item", "GET", 600));
+    }
+
+    @Test
+    public void testMeterRemoved() {
+        RequestTimerCache cache = new RequestTimerCache(10, registry, "http.server.requests");
+        Timer timer = Timer.builder("http.server.requests").tag("uri", "/item").register(registry);
+        Timer other = Timer.builder("other").tag("uri", "/item").register(registry);
+
+        cache.put("/item", "GET", 200, timer);
+        registry.remove(other);
+        Assertions.assertSame(timer, cache.get("/item", "GET", 200));
+
+        registry.remove(timer);
+        Assertions.assertNull(cache.get("/item", "GET", 200));
+    }
+}
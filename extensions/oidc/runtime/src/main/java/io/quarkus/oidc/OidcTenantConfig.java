@@ -2385,6 +2385,8 @@ public static Token fromAudience(String... audience) {
 
         private Duration refreshTokenCacheTimeToLive = Duration.ZERO;
 
+        private Duration verifiedTokenCacheTimeToLive = Duration.ZERO;
+
         /**
          * The forced JWK set refresh interval in minutes.
          */
@@ -2666,6 +2668,7 @@ private void addConfigMappingValues(io.quarkus.oidc.runtime.OidcTenantConfig.Tok
             refreshExpired = mapping.refreshExpired();
             refreshTokenTimeSkew = mapping.refreshTokenTimeSkew();
             refreshTokenCacheTimeToLive = mapping.refreshTokenCacheTimeToLive();
+            verifiedTokenCacheTimeToLive = mapping.verifiedTokenCacheTimeToLive();
             forcedJwkRefreshInterval = mapping.forcedJwkRefreshInterval();
             header = mapping.header();
             authorizationScheme = mapping.authorizationScheme();
@@ -2741,6 +2744,11 @@ public Duration refreshTokenCacheTimeToLive() {
             return refreshTokenCacheTimeToLive;
         }
 
+        @Override
+        public Duration verifiedTokenCacheTimeToLive() {
+            return verifiedTokenCacheTimeToLive;
+        }
+
         @Override
         public Duration forcedJwkRefreshInterval() {
             return forcedJwkRefreshInterval;
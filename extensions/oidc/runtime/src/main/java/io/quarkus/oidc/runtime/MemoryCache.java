@@ -6,6 +6,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
@@ -13,6 +14,9 @@
 import io.vertx.core.Vertx;
 
 public class MemoryCache<T> {
+    // number of entries inspected to find an entry to evict when the cache is full
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
     private volatile Long timerId = null;
 
     private final Map<String, CacheEntry<T>> cacheMap = new ConcurrentHashMap<>();
@@ -49,10 +53,22 @@ public void handle(Long event) {
     public void add(String key, T result) {
         if (cacheSize > 0) {
             startTimerIfNotRunning();
+            CacheEntry<T> newEntry = new CacheEntry<>(result, now());
+            if (cacheMap.replace(key, newEntry) != null) {
+                // an existing entry was replaced, no space is needed
+                return;
+            }
             if (!prepareSpaceForNewCacheEntry()) {
-                clearCache();
+                evictSampledEntry();
+                if (!prepareSpaceForNewCacheEntry()) {
+                    // concurrent additions took the space, the entry is not cached
+                    return;
+                }
+            }
+            if (cacheMap.put(key, newEntry) != null) {
+                // the entry was concurrently added
+                size.decrementAndGet();
             }
-            cacheMap.put(key, new CacheEntry<>(result, now()));
         }
     }
 
@@ -97,6 +113,42 @@ private void removeCacheEntry(String key, CacheEntry<T> entry) {
         }
     }
 
+    /**
+     * Evicts a single entry without comparing all the cache entries: the first expired entry found among a small sample
+     * of entries, or the eldest entry of the sample otherwise.
+     * <p>
+     * The sample is made of consecutive entries in the map iteration order, starting from a random position and
+     * wrapping around the end of the map, so the evicted entry is only an approximation of the eldest one.
+     */
+    private void evictSampledEntry() {
+        int entries = cacheMap.size();
+        int offset = entries > EVICTION_SAMPLE_SIZE ? ThreadLocalRandom.current().nextInt(entries) : 0;
+        long now = now();
+        Map.Entry<String, CacheEntry<T>> eldest = null;
+        int position = 0;
+        int sampled = 0;
+        for (var next : cacheMap.entrySet()) {
+            int current = position++;
+            if (current < offset && current >= offset + EVICTION_SAMPLE_SIZE - entries) {
+                // neither in the sample nor in its part wrapped around the end of the map
+                continue;
+            }
+            if (isEntryExpired(next.getValue(), now)) {
+                eldest = next;
+                break;
+            }
+            if (eldest == null || next.getValue().createdTime() < eldest.getValue().createdTime()) {
+                eldest = next;
+            }
+            if (++sampled == EVICTION_SAMPLE_SIZE) {
+                break;
+            }
+        }
+        if (eldest != null) {
+            removeCacheEntry(eldest.getKey(), eldest.getValue());
+        }
+    }
+
     private void evictEldest() {
         int overflow = cacheMap.size() - cacheSize;
         if (overflow <= 0) {
@@ -131,7 +183,7 @@ private boolean prepareSpaceForNewCacheEntry() {
         int currentSize;
         do {
             currentSize = size.get();
-            if (currentSize == cacheSize) {
+            if (currentSize >= cacheSize) {
                 return false;
             }
         } while (!size.compareAndSet(currentSize, currentSize + 1));
@@ -7,12 +7,14 @@
 import java.io.Closeable;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -55,6 +57,7 @@
 import io.smallrye.jwt.algorithm.SignatureAlgorithm;
 import io.smallrye.jwt.util.KeyUtils;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
 
 public class OidcProvider implements Closeable {
 
@@ -75,6 +78,7 @@ public class OidcProvider implements Closeable {
     static final AlgorithmConstraints ASYMMETRIC_ALGORITHM_CONSTRAINTS = new AlgorithmConstraints(
             AlgorithmConstraints.ConstraintType.PERMIT, ASYMMETRIC_SUPPORTED_ALGORITHMS);
     static final String ANY_ISSUER = "any";
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
 
     private final List<Validator> customValidators;
     final OidcProviderClientImpl client;
@@ -86,6 +90,7 @@ public class OidcProvider implements Closeable {
     final String[] audience;
     final Map<String, Set<String>> requiredClaims;
     final AlgorithmConstraints requiredAlgorithmConstraints;
+    final MemoryCache<VerifiedToken> verifiedTokenCache;
 
     public OidcProvider(OidcProviderClientImpl client, OidcTenantConfig oidcConfig, JsonWebKeySet jwks) {
         this(client, oidcConfig, jwks, TenantFeatureFinder.find(oidcConfig),
@@ -115,6 +120,7 @@ public OidcProvider(OidcProviderClientImpl client, OidcTenantConfig oidcConfig,
         this.requiredClaims = checkRequiredClaimsProp();
         this.requiredAlgorithmConstraints = checkSignatureAlgorithm();
         this.customValidators = customValidators == null ? List.of() : customValidators;
+        this.verifiedTokenCache = createVerifiedTokenCache(client == null ? null : client.getVertx());
         if (client != null) {
             this.client.setOidcProvider(this);
         }
@@ -137,6 +143,21 @@ public OidcProvider(String publicKeyEnc, OidcTenantConfig oidcConfig) {
         this.requiredClaims = checkRequiredClaimsProp();
         this.requiredAlgorithmConstraints = checkSignatureAlgorithm();
         this.customValidators = TenantFeatureFinder.find(oidcConfig, Validator.class);
+        this.verifiedTokenCache = createVerifiedTokenCache(null);
+    }
+
+    private MemoryCache<VerifiedToken> createVerifiedTokenCache(Vertx vertx) {
+        if (oidcConfig == null || oidcConfig.token().verifiedTokenCacheTimeToLive().isZero()) {
+            return null;
+        }
+        if (!customValidators.isEmpty()) {
+            // custom validators may depend on more than the token itself, they must run on every verification
+            LOG.debugf("Verified token cache is disabled for tenant %s because custom token validators are registered",
+                    oidcConfig.tenantId().orElse(OidcUtils.DEFAULT_TENANT_ID));
+            return null;
+        }
+        Duration timeToLive = oidcConfig.token().verifiedTokenCacheTimeToLive();
+        return new MemoryCache<>(vertx, Optional.of(timeToLive), timeToLive, VERIFIED_TOKEN_CACHE_SIZE);
     }
 
     private AlgorithmConstraints checkSignatureAlgorithm() {
@@ -179,9 +200,46 @@ public TokenVerificationResult verifySelfSignedJwtToken(String token, Key genera
     public TokenVerificationResult verifyJwtToken(String token, boolean enforceAudienceVerification, boolean subjectRequired,
             String nonce)
             throws InvalidJwtException {
-        return verifyJwtTokenInternal(customizeJwtToken(token), enforceAudienceVerification, subjectRequired, nonce,
+        if (verifiedTokenCache == null || nonce != null) {
+            return verifyJwtTokenInternal(customizeJwtToken(token), enforceAudienceVerification, subjectRequired, nonce,
+                    (requiredAlgorithmConstraints != null ? requiredAlgorithmConstraints : ASYMMETRIC_ALGORITHM_CONSTRAINTS),
+                    asymmetricKeyResolver, true, oidcConfig.token().issuedAtRequired());
+        }
+        final String cacheKey = verifiedTokenCacheKey(token, enforceAudienceVerification, subjectRequired);
+        final VerifiedToken cached = verifiedTokenCache.get(cacheKey);
+        if (cached != null) {
+            if (now() < cached.expiresAt()) {
+                verifyTokenAge(cached.result().localVerificationResult().getLong(Claims.iat.name()));
+                // the result may be modified by the caller
+                return copyOf(cached.result());
+            }
+            verifiedTokenCache.remove(cacheKey);
+        }
+        TokenVerificationResult result = verifyJwtTokenInternal(customizeJwtToken(token), enforceAudienceVerification,
+                subjectRequired, null,
                 (requiredAlgorithmConstraints != null ? requiredAlgorithmConstraints : ASYMMETRIC_ALGORITHM_CONSTRAINTS),
                 asymmetricKeyResolver, true, oidcConfig.token().issuedAtRequired());
+        final Long exp = result.localVerificationResult().getLong(Claims.exp.name());
+        if (exp != null) {
+            final long expiresAt = Math.min(exp * 1000,
+                    now() + oidcConfig.token().verifiedTokenCacheTimeToLive().toMillis());
+            verifiedTokenCache.add(cacheKey, new VerifiedToken(copyOf(result), expiresAt));
+        }
+        return result;
+    }
+
+    private static TokenVerificationResult copyOf(TokenVerificationResult result) {
+        return new TokenVerificationResult(result.localVerificationResult().copy(), result.introspectionResult());
+    }
+
+    private static String verifiedTokenCacheKey(String token, boolean enforceAudienceVerification, boolean subjectRequired) {
+        final String tokenHash;
+        try {
+            tokenHash = Base64.getUrlEncoder().withoutPadding().encodeToString(OidcUtils.getSha256Digest(token));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new OIDCException(ex);
+        }
+        return (enforceAudienceVerification ? "a" : "-") + (subjectRequired ? "s" : "-") + tokenHash;
     }
 
     public TokenVerificationResult verifyJwtToken(String token, boolean enforceAudienceVerification, boolean subjectRequired,
@@ -519,6 +577,12 @@ public Uni<AuthorizationCodeTokens> refreshTokens(String refreshToken) {
 
     @Override
     public void close() {
+        if (verifiedTokenCache != null) {
+            if (client != null) {
+                verifiedTokenCache.stopTimer(client.getVertx());
+            }
+            verifiedTokenCache.clearCache();
+        }
         if (client != null) {
             client.close();
         }
@@ -645,6 +709,10 @@ public Uni<Void> refresh() {
                             @Override
                             public Uni<? extends Void> apply(JsonWebKeySet t) {
                                 jwks = t;
+                                if (verifiedTokenCache != null) {
+                                    // tokens verified with the keys which are no longer available must be verified again
+                                    verifiedTokenCache.clearCache();
+                                }
                                 return Uni.createFrom().voidItem();
                             }
 
@@ -656,6 +724,12 @@ public Uni<? extends Void> apply(JsonWebKeySet t) {
 
     }
 
+    /**
+     * Successfully verified token which can be reused until it expires or until the JWK set is refreshed.
+     */
+    record VerifiedToken(TokenVerificationResult result, long expiresAt) {
+    }
+
     private static class LocalPublicKeyResolver implements RefreshableVerificationKeyResolver {
         Key key;
 
@@ -1215,6 +1215,20 @@ interface Token {
         @WithDefault("0S")
         Duration refreshTokenCacheTimeToLive();
 
+        /**
+         * Time to live of the verified bearer access token cache. Caching is disabled by default.
+         * <p>
+         * When enabled, the result of a successful local verification of a JWT bearer access token is cached, keyed by
+         * the token hash, so that a token sent repeatedly by the same client is not parsed and its signature is not
+         * verified again on every request. A cached result is never used after the token has expired, and all cached
+         * results are discarded when the JWK set is refreshed.
+         * <p>
+         * The cache is per tenant with up to 10,000 entries. It is not used when custom
+         * {@link org.jose4j.jwt.consumer.Validator} beans apply to the tenant, as they must run on every verification.
+         */
+        @WithDefault("0S")
+        Duration verifiedTokenCacheTimeToLive();
+
         /**
          * The forced JWK set refresh interval in minutes.
          */
@@ -26,7 +26,7 @@ private record TokenImpl(Optional<String> issuer, Optional<List<String>> audienc
             Map<String, Set<String>> requiredClaims, Optional<String> tokenType, OptionalInt lifespanGrace,
             Optional<Duration> age, boolean issuedAtRequired, Optional<String> principalClaim, boolean refreshExpired,
             Optional<Duration> refreshTokenTimeSkew, Duration refreshTokenCacheTimeToLive,
-            Duration forcedJwkRefreshInterval, Optional<String> header,
+            Duration verifiedTokenCacheTimeToLive, Duration forcedJwkRefreshInterval, Optional<String> header,
             String authorizationScheme, Optional<OidcTenantConfig.SignatureAlgorithm> signatureAlgorithm,
             Optional<String> decryptionKeyLocation, Optional<Boolean> decryptIdToken, boolean decryptAccessToken,
             boolean allowJwtIntrospection, boolean requireJwtIntrospectionOnly,
@@ -47,6 +47,7 @@ private record TokenImpl(Optional<String> issuer, Optional<List<String>> audienc
     private boolean refreshExpired;
     private Optional<Duration> refreshTokenTimeSkew;
     private Duration refreshTokenCacheTimeToLive;
+    private Duration verifiedTokenCacheTimeToLive;
     private Duration forcedJwkRefreshInterval;
     private Optional<String> header;
     private String authorizationScheme;
@@ -84,6 +85,7 @@ public TokenConfigBuilder(OidcTenantConfigBuilder builder) {
         this.refreshExpired = token.refreshExpired();
         this.refreshTokenTimeSkew = token.refreshTokenTimeSkew();
         this.refreshTokenCacheTimeToLive = token.refreshTokenCacheTimeToLive();
+        this.verifiedTokenCacheTimeToLive = token.verifiedTokenCacheTimeToLive();
         this.forcedJwkRefreshInterval = token.forcedJwkRefreshInterval();
         this.header = token.header();
         this.authorizationScheme = token.authorizationScheme();
@@ -304,6 +306,15 @@ public TokenConfigBuilder refreshTokenCacheTimeToLive(Duration refreshTokenCache
         return this;
     }
 
+    /**
+     * @param verifiedTokenCacheTimeToLive {@link OidcTenantConfig.Token#verifiedTokenCacheTimeToLive()}
+     * @return this builder
+     */
+    public TokenConfigBuilder verifiedTokenCacheTimeToLive(Duration verifiedTokenCacheTimeToLive) {
+        this.verifiedTokenCacheTimeToLive = Objects.requireNonNull(verifiedTokenCacheTimeToLive);
+        return this;
+    }
+
     /**
      * @param forcedJwkRefreshInterval {@link OidcTenantConfig.Token#forcedJwkRefreshInterval()}
      * @return this builder
@@ -499,7 +510,7 @@ public OidcTenantConfig.Token build() {
                 : Optional.of(List.copyOf(audience));
         return new TokenImpl(issuer, optionalAudience, subjectRequired, Map.copyOf(requiredClaims), tokenType,
                 lifespanGrace, age, issuedAtRequired, principalClaim, refreshExpired, refreshTokenTimeSkew,
-                refreshTokenCacheTimeToLive,
+                refreshTokenCacheTimeToLive, verifiedTokenCacheTimeToLive,
                 forcedJwkRefreshInterval, header, authorizationScheme, signatureAlgorithm, decryptionKeyLocation,
                 decryptIdToken,
                 decryptAccessToken, allowJwtIntrospection, requireJwtIntrospectionOnly, allowOpaqueTokenIntrospection,
@@ -7,8 +7,15 @@
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
@@ -77,18 +84,68 @@ public void testAddWhenMaxCacheSizeIsReached() throws Exception {
         assertFalse(cache.isTimerRunning());
 
         cache.add("1", new Bean("1"));
+        Thread.sleep(5);
         cache.add("2", new Bean("2"));
         assertEquals(2, cache.getCacheSize());
 
-        // Currently, if the cache is full and a new entry has to be added, then the whole cache is cleared
-        // It can be optimized to remove the oldest entry only in the future
-
+        // If the cache is full and a new entry has to be added, then the oldest entry is evicted
+        Thread.sleep(5);
         cache.add("3", new Bean("3"));
-        assertEquals(1, cache.getCacheSize());
+        assertEquals(2, cache.getCacheSize());
 
         assertNull(cache.get("1"));
-        assertNull(cache.get("2"));
+        assertEquals("2", cache.get("2").name);
         assertEquals("3", cache.get("3").name);
+
+        // replacing an existing entry doesn't evict anything
+        cache.add("3", new Bean("4"));
+        assertEquals(2, cache.getCacheSize());
+        assertEquals("2", cache.get("2").name);
+        assertEquals("4", cache.get("3").name);
+    }
+
+    @Test
+    public void testConcurrentAddDoesNotExceedMaxCacheSize() throws Exception {
+        final int cacheSize = 16;
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx,
+                // timer interval
+                Optional.empty(),
+                // entry is valid for 1 minute
+                Duration.ofMinutes(1),
+                // max cache size
+                cacheSize);
+
+        final int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                final int thread = i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int maxObservedSize = 0;
+                    for (int j = 0; j < 2_000; j++) {
+                        String key = thread + "-" + j;
+                        cache.add(key, new Bean(key));
+                        maxObservedSize = Math.max(maxObservedSize, cache.getCacheSize());
+                    }
+                    return maxObservedSize;
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                assertTrue(result.get(30, TimeUnit.SECONDS) <= cacheSize);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(cache.getCacheSize() <= cacheSize);
+
+        // the cache still accepts new entries once the concurrent additions are over
+        cache.add("last", new Bean("last"));
+        assertEquals("last", cache.get("last").name);
+        assertTrue(cache.getCacheSize() <= cacheSize);
     }
 
     static class Bean {
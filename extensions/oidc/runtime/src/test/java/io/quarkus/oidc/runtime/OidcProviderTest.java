@@ -1,11 +1,13 @@
 package io.quarkus.oidc.runtime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.List;
@@ -311,4 +313,60 @@ public String validate(JwtContext jwtContext) throws MalformedClaimException {
         }
     }
 
+    @Test
+    public void testVerifiedTokenCache() throws Exception {
+        RsaJsonWebKey rsaJsonWebKey = RsaJwkGenerator.generateJwk(2048);
+        rsaJsonWebKey.setKeyId("k1");
+        JsonWebKeySet jwkSet = new JsonWebKeySet("{\"keys\": [" + rsaJsonWebKey.toJson() + "]}");
+
+        OidcTenantConfig oidcConfig = OidcTenantConfig.builder()
+                .token().verifiedTokenCacheTimeToLive(Duration.ofMinutes(5)).end()
+                .build();
+
+        final String token = Jwt.issuer("http://keycloak/realm").subject("alice").jws().keyId("k1")
+                .sign(rsaJsonWebKey.getPrivateKey());
+        final String expiredToken = Jwt.issuer("http://keycloak/realm").expiresAt(Instant.now().minusSeconds(100))
+                .jws().keyId("k1").sign(rsaJsonWebKey.getPrivateKey());
+
+        try (OidcProvider provider = new OidcProvider(null, oidcConfig, jwkSet)) {
+            TokenVerificationResult result = provider.verifyJwtToken(token, false, false, null);
+            assertEquals("http://keycloak/realm", result.localVerificationResult().getString("iss"));
+            // the result of the first verification can be modified without affecting the cached result
+            result.localVerificationResult().put("iss", "modified");
+            TokenVerificationResult cached = provider.verifyJwtToken(token, false, false, null);
+            assertEquals("http://keycloak/realm", cached.localVerificationResult().getString("iss"));
+            assertEquals(1, provider.verifiedTokenCache.getCacheSize());
+            // each cache hit returns its own copy
+            cached.localVerificationResult().put("iss", "modified");
+            assertEquals("http://keycloak/realm",
+                    provider.verifyJwtToken(token, false, false, null).localVerificationResult().getString("iss"));
+
+            // different verification requirements must not share the cached result
+            assertNotSame(result, provider.verifyJwtToken(token, false, true, null));
+            assertEquals(2, provider.verifiedTokenCache.getCacheSize());
+
+            try {
+                provider.verifyJwtToken(expiredToken, false, false, null);
+                fail("InvalidJwtException expected");
+            } catch (InvalidJwtException ex) {
+                // continue
+            }
+            assertEquals(2, provider.verifiedTokenCache.getCacheSize());
+        }
+
+        try (OidcProvider provider = new OidcProvider(null, new OidcTenantConfig(), jwkSet)) {
+            assertNull(provider.verifiedTokenCache);
+        }
+
+        // custom validators must run on every verification
+        Validator validator = new Validator() {
+            @Override
+            public String validate(JwtContext jwtContext) {
+                return null;
+            }
+        };
+        try (OidcProvider provider = new OidcProvider(null, oidcConfig, jwkSet, null, List.of(validator))) {
+            assertNull(provider.verifiedTokenCache);
+        }
+    }
 }
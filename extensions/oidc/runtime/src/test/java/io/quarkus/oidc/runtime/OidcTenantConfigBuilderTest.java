@@ -101,6 +101,7 @@ public void testDefaultValues() {
         assertTrue(token.customizerName().isEmpty());
         assertTrue(token.verifyAccessTokenWithUserInfo().isEmpty());
         assertEquals(Duration.ZERO, token.refreshTokenCacheTimeToLive());
+        assertEquals(Duration.ZERO, token.verifiedTokenCacheTimeToLive());
 
         var logout = config.logout();
         assertNotNull(logout);
@@ -281,6 +282,7 @@ public void testSetEveryProperty() {
                 .roles().roleClaimSeparator("@#$").roleClaimPath("separator-23").source(idtoken).end()
                 .token()
                 .refreshTokenCacheTimeToLive(Duration.ofSeconds(30))
+                .verifiedTokenCacheTimeToLive(Duration.ofMinutes(2))
                 .verifyAccessTokenWithUserInfo()
                 .customizerName("customizer-name-8")
                 .allowOpaqueTokenIntrospection(false)
@@ -494,6 +496,7 @@ public void testSetEveryProperty() {
         assertEquals("customizer-name-8", token.customizerName().orElse(null));
         assertTrue(token.verifyAccessTokenWithUserInfo().orElseThrow());
         assertEquals(Duration.ofSeconds(30), token.refreshTokenCacheTimeToLive());
+        assertEquals(Duration.ofMinutes(2), token.verifiedTokenCacheTimeToLive());
 
         var logout = config.logout();
         assertNotNull(logout);
@@ -220,6 +220,7 @@ enum ConfigMappingMethods {
         RAR_ARRAY,
         RAR_TYPE,
         REFRESH_TOKEN_CACHE_TIME_TO_LIVE,
+        VERIFIED_TOKEN_CACHE_TIME_TO_LIVE,
         PAR_PATH
     }
 
@@ -409,6 +410,12 @@ public Duration refreshTokenCacheTimeToLive() {
                 return null;
             }
 
+            @Override
+            public Duration verifiedTokenCacheTimeToLive() {
+                invocationsRecorder.put(ConfigMappingMethods.VERIFIED_TOKEN_CACHE_TIME_TO_LIVE, true);
+                return null;
+            }
+
             @Override
             public Duration forcedJwkRefreshInterval() {
                 invocationsRecorder.put(ConfigMappingMethods.TOKEN_FORCED_JWK_REFRESH_INTERNAL, true);
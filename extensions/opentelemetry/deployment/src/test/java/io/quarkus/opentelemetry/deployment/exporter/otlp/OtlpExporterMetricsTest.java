@@ -0,0 +1,58 @@
+package io.quarkus.opentelemetry.deployment.exporter.otlp;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.Duration;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.quarkus.opentelemetry.deployment.common.exporter.InMemoryMetricExporter;
+import io.quarkus.opentelemetry.deployment.common.exporter.InMemoryMetricExporterProvider;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class OtlpExporterMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> root
+                    .addClasses(InMemoryMetricExporter.class, InMemoryMetricExporterProvider.class)
+                    .addAsResource(new StringAsset(InMemoryMetricExporterProvider.class.getCanonicalName()),
+                            "META-INF/services/io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider"))
+            .overrideConfigKey("quarkus.otel.traces.exporter", "cdi")
+            // Nothing listens there, the exports fail and are recorded as such
+            .overrideConfigKey("quarkus.otel.exporter.otlp.endpoint", "http://localhost:4317")
+            .overrideConfigKey("quarkus.otel.exporter.otlp.traces.exporter-metrics", "true")
+            .overrideConfigKey("quarkus.otel.bsp.schedule.delay", "50ms")
+            .overrideConfigKey("quarkus.otel.metrics.enabled", "true")
+            .overrideConfigKey("quarkus.otel.metrics.exporter", "in-memory")
+            .overrideConfigKey("quarkus.otel.metric.export.interval", "300ms")
+            .overrideConfigKey("quarkus.otel.logs.exporter", "none");
+
+    @Inject
+    Tracer tracer;
+
+    @Inject
+    InMemoryMetricExporter metricExporter;
+
+    @Test
+    void testExporterMetrics() {
+        tracer.spanBuilder("exported").startSpan().end();
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            // The metric names depend on the internal telemetry version of the SDK
+            List<MetricData> exporterMetrics = metricExporter.getFinishedMetricItems().stream()
+                    .filter(metric -> metric.getName().startsWith("otlp.exporter.")
+                            || metric.getName().startsWith("otel.sdk.exporter."))
+                    .toList();
+            assertFalse(exporterMetrics.isEmpty(), "No span exporter metrics recorded");
+        });
+    }
+}
@@ -1,7 +1,19 @@
 package io.quarkus.opentelemetry.runtime.config.runtime.exporter;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
 
 @ConfigGroup
 public interface OtlpExporterTracesConfig extends OtlpExporterConfig {
+
+    /**
+     * If the span exporter records metrics about its own activity: the number of exported and failed spans, and the
+     * duration of the export operations.
+     * <p>
+     * The metrics are recorded with the OpenTelemetry metrics API, so this has no effect unless the OpenTelemetry
+     * metrics are enabled. The spans dropped because the queue is full are already recorded by the batch span
+     * processor.
+     */
+    @WithDefault("false")
+    boolean exporterMetrics();
 }
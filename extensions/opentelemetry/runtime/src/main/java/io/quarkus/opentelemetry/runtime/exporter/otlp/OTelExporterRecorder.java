@@ -17,6 +17,7 @@
 
 import org.jboss.logging.Logger;
 
+import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.ExporterBuilderUtil;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
@@ -35,6 +36,8 @@
 import io.opentelemetry.sdk.metrics.export.MetricExporter;
 import io.opentelemetry.sdk.metrics.internal.aggregator.AggregationUtil;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.opentelemetry.runtime.config.runtime.OTelRuntimeConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.exporter.CompressionType;
@@ -144,7 +147,7 @@ private SpanExporter createOtlpGrpcSpanExporter(OtlpExporterRuntimeConfig export
                                 vertx),
                         InternalTelemetryVersion.LATEST,
                         ComponentId.generateLazy(StandardComponentId.ExporterType.OTLP_GRPC_SPAN_EXPORTER), // use the same as OTel does
-                        MeterProvider::noop,
+                        spanExporterMeterProvider(tracesConfig),
                         baseUri),
                         memoryMode);
             }
@@ -169,7 +172,7 @@ private SpanExporter createHttpSpanExporter(OtlpExporterRuntimeConfig exporterRu
                                 exportAsJson ? "application/json" : "application/x-protobuf",
                                 new HttpClientOptionsConsumer(tracesConfig, baseUri, tlsConfigurationRegistry),
                                 vertx),
-                        MeterProvider::noop,
+                        spanExporterMeterProvider(tracesConfig),
                         InternalTelemetryVersion.LATEST,
                         baseUri,
                         false),
@@ -178,6 +181,23 @@ private SpanExporter createHttpSpanExporter(OtlpExporterRuntimeConfig exporterRu
         };
     }
 
+    private static Supplier<MeterProvider> spanExporterMeterProvider(OtlpExporterTracesConfig tracesConfig) {
+        if (!tracesConfig.exporterMetrics()) {
+            return MeterProvider::noop;
+        }
+        // The exporter is created while the SDK is built, so the meter provider is only resolved on the first export
+        return new Supplier<>() {
+            @Override
+            public MeterProvider get() {
+                ArcContainer container = Arc.container();
+                if (container == null) {
+                    return MeterProvider.noop();
+                }
+                return container.instance(OpenTelemetry.class).get().getMeterProvider();
+            }
+        };
+    }
+
     public Function<SyntheticCreationalContext<MetricExporter>, MetricExporter> createMetricExporter(Supplier<Vertx> vertx) {
 
         final URI baseUri = getMetricsUri(exporterRuntimeConfig.getValue());
@@ -121,6 +121,11 @@ public Optional<String> protocol() {
                 return Optional.empty();
             }
 
+            @Override
+            public boolean exporterMetrics() {
+                return false;
+            }
+
             @Override
             public KeyCert keyCert() {
                 return new KeyCert() {
@@ -1,5 +1,7 @@
 package io.quarkus.hibernate.orm.panache.common.runtime;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -12,6 +14,12 @@
 public abstract class AbstractStatelessJpaOperations<PanacheQueryType>
         extends AbstractJpaOperations<PanacheQueryType, StatelessSession> {
 
+    /**
+     * The maximum number of entities inserted with a single JDBC batch by {@link #insert(Iterable)} and
+     * {@link #insert(Stream)}.
+     */
+    static final int MAX_INSERT_BATCH_SIZE = 1000;
+
     protected AbstractStatelessJpaOperations() {
         super(StatelessSession.class);
     }
@@ -26,9 +34,7 @@ public void insert(StatelessSession session, Object entity) {
     }
 
     public void insert(Iterable<?> entities) {
-        for (Object entity : entities) {
-            insert(getSession(entity.getClass()), entity);
-        }
+        insert(entities.iterator());
     }
 
     public void insert(Object firstEntity, Object... entities) {
@@ -39,7 +45,36 @@ public void insert(Object firstEntity, Object... entities) {
     }
 
     public void insert(Stream<?> entities) {
-        entities.forEach(entity -> insert(entity));
+        insert(entities.iterator());
+    }
+
+    private void insert(Iterator<?> entities) {
+        // Consecutive entities of the same class are inserted together so that Hibernate ORM can use a single
+        // JDBC batch for them, even if no batch size is configured for the persistence unit
+        Class<?> currentClass = null;
+        List<Object> batch = new ArrayList<>();
+        while (entities.hasNext()) {
+            Object entity = entities.next();
+            if (entity.getClass() != currentClass || batch.size() == MAX_INSERT_BATCH_SIZE) {
+                insertBatch(currentClass, batch);
+                currentClass = entity.getClass();
+                batch = new ArrayList<>();
+            }
+            batch.add(entity);
+        }
+        insertBatch(currentClass, batch);
+    }
+
+    private void insertBatch(Class<?> entityClass, List<Object> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        StatelessSession session = getSession(entityClass);
+        if (batch.size() == 1) {
+            insert(session, batch.get(0));
+        } else {
+            session.insertMultiple(batch);
+        }
     }
 
     public void update(Object entity) {
@@ -11,12 +11,14 @@
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import jakarta.persistence.LockModeType;
 
 import org.hibernate.Filter;
+import org.hibernate.Session;
 import org.hibernate.SharedSessionContract;
 import org.hibernate.query.KeyedPage;
 import org.hibernate.query.KeyedResultList;
@@ -467,6 +469,53 @@ public <T extends Entity> Stream<T> stream() {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Stream<T> streamDetached(int fetchSize) {
+        if (keyedPage != null) {
+            throw new UnsupportedOperationException(
+                    "Cannot stream detached results with cursor-based pagination, use stream() instead");
+        }
+        SelectionQuery hibernateQuery = createQuery();
+        // rows are fetched from the database in batches, using a server-side cursor where the driver supports it
+        hibernateQuery.setFetchSize(fetchSize);
+        // read-only entities are not dirty-checked and do not keep a snapshot of their state
+        hibernateQuery.setReadOnly(true);
+        Stream<T> stream;
+        try (NonThrowingCloseable c = applyFilters()) {
+            stream = hibernateQuery.getResultStream();
+        }
+        if (!(session instanceof Session)) {
+            // a stateless session has no persistence context
+            return stream;
+        }
+        Session statefulSession = (Session) session;
+        // an entity is detached once the next one is read, so that the persistence context does not grow,
+        // while the current entity can still load its lazy associations
+        Object[] previous = new Object[1];
+        return stream.map(new Function<T, T>() {
+            @Override
+            public T apply(T entity) {
+                detach(statefulSession, previous[0]);
+                previous[0] = entity;
+                return entity;
+            }
+        }).onClose(new Runnable() {
+            @Override
+            public void run() {
+                detach(statefulSession, previous[0]);
+                previous[0] = null;
+            }
+        });
+    }
+
+    private static void detach(Session session, Object entity) {
+        // the read-only query does not change entities that were already managed before, these are not detached so that
+        // their pending changes are not discarded
+        if (entity != null && session.isOpen() && session.contains(entity) && session.isReadOnly(entity)) {
+            session.detach(entity);
+        }
+    }
+
     public <T extends Entity> T firstResult() {
         SelectionQuery hibernateQuery = createQuery(1);
         try (NonThrowingCloseable c = applyFilters()) {
@@ -48,6 +48,22 @@ fun page(page: Page): PanacheQuery<Entity>
      */
     fun page(pageIndex: Int, pageSize: Int): PanacheQuery<Entity>
 
+    /**
+     * Sets the current page to the first page of the given size, using keyset pagination. Each following page is read
+     * by restricting the query to the results that come after the last result of the current page, according to the
+     * query sort, instead of skipping the results of the previous pages with an offset.
+     *
+     * The query must be sorted, and the sort must uniquely identify the results. The results of the current page must
+     * be read with [PanacheQuery.list] or [PanacheQuery.stream] before moving to the next or previous page. Moving to
+     * the last page is not supported.
+     *
+     * @param pageSize the page size
+     * @return this query, modified
+     * @throws UnsupportedOperationException if the query is not sorted
+     * @see [PanacheQuery.nextPage]
+     */
+    fun cursor(pageSize: Int): PanacheQuery<Entity>
+
     /**
      * Sets the current page to the next page
      *
@@ -223,6 +239,19 @@ fun list(): List<Entity>
      */
     fun stream(): Stream<Entity>
 
+    /**
+     * Returns the current page of results as a Stream suitable for reading a large number of entities. The rows are
+     * fetched from the database in batches of the given size, the entities are read-only, and each entity is detached
+     * from the persistence context as soon as the next one is read. Entities that were already managed before the query
+     * are neither read-only nor detached. Entities loaded with the streamed ones, e.g. through eager associations, stay in
+     * the persistence context. The returned stream must be closed.
+     *
+     * @param fetchSize the number of rows fetched from the database at once
+     * @return the current page of results as a Stream.
+     * @see [PanacheQuery.stream]
+     */
+    fun streamDetached(fetchSize: Int): Stream<Entity>
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to
      * fetch a single result.
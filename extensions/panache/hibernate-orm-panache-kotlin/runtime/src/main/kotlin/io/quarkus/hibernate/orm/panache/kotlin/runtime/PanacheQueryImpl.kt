@@ -50,6 +50,11 @@ override fun page(pageIndex: Int, pageSize: Int): PanacheQuery<Entity> {
         return this
     }
 
+    override fun cursor(pageSize: Int): PanacheQuery<Entity> {
+        delegate.cursor(0, pageSize)
+        return this
+    }
+
     override fun nextPage(): PanacheQuery<Entity> {
         delegate.nextPage()
         return this
@@ -129,6 +134,10 @@ override fun stream(): Stream<Entity> {
         return delegate.stream()
     }
 
+    override fun streamDetached(fetchSize: Int): Stream<Entity> {
+        return delegate.streamDetached(fetchSize)
+    }
+
     override fun firstResult(): Entity? {
         return delegate.firstResult()
     }
@@ -81,6 +81,24 @@
      */
     public <T extends Entity> PanacheQuery<T> page(int pageIndex, int pageSize);
 
+    /**
+     * Sets the current page to the first page of the given size, using keyset pagination. Instead of skipping the
+     * results of the previous pages with an offset, which gets slower the deeper the page is, each following page is
+     * read by restricting the query to the results that come after the last result of the current page, according to
+     * the query sort.
+     * <p>
+     * The query must be sorted, and the sort must uniquely identify the results, for example
+     * <code>Sort.by("name").and("id")</code>. The results of the current page must be read with {@link #list()} or
+     * {@link #stream()} before moving to the next or previous page. Moving to the last page is not supported.
+     *
+     * @param pageSize the page size
+     * @return this query, modified
+     * @throws UnsupportedOperationException if the query is not sorted
+     * @see #nextPage()
+     * @see #previousPage()
+     */
+    public <T extends Entity> PanacheQuery<T> cursor(int pageSize);
+
     /**
      * Sets the current page to the next page
      *
@@ -264,6 +282,28 @@
      */
     public <T extends Entity> Stream<T> stream();
 
+    /**
+     * Returns the current page of results as a {@link Stream} suitable for reading a large number of entities, for
+     * example to export a table. The rows are fetched from the database in batches of the given size, using a
+     * server-side cursor if the database driver supports it, which for PostgreSQL requires a transaction.
+     * <p>
+     * The entities are read-only, and each entity is detached from the persistence context as soon as the next one is
+     * read, so that the memory used by the persistence context does not grow with the number of results. Modifications
+     * of the entities are not persisted.
+     * <p>
+     * Entities that were already managed before the query are returned as they are: they are neither read-only nor
+     * detached. Entities loaded with the streamed ones, e.g. through eager associations, are not detached and stay in the
+     * persistence context; prefer lazy associations or clear the persistence context periodically.
+     * <p>
+     * The returned stream must be closed, for example with a try-with-resources statement.
+     *
+     * @param fetchSize the number of rows fetched from the database at once
+     * @return the current page of results as a {@link Stream}.
+     * @throws UnsupportedOperationException if cursor-based pagination is used
+     * @see #stream()
+     */
+    public <T extends Entity> Stream<T> streamDetached(int fetchSize);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
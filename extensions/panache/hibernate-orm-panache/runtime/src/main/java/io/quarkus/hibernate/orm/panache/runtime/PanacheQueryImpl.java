@@ -50,6 +50,13 @@ public <T extends Entity> PanacheQuery<T> page(int pageIndex, int pageSize) {
         return (PanacheQuery<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> cursor(int pageSize) {
+        delegate.cursor(0, pageSize);
+        return (PanacheQuery<T>) this;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Entity> PanacheQuery<T> nextPage() {
@@ -157,6 +164,11 @@ public <T extends Entity> Stream<T> stream() {
         return delegate.stream();
     }
 
+    @Override
+    public <T extends Entity> Stream<T> streamDetached(int fetchSize) {
+        return delegate.streamDetached(fetchSize);
+    }
+
     @Override
     public <T extends Entity> T firstResult() {
         return delegate.firstResult();
@@ -3,6 +3,9 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import jakarta.data.Order;
@@ -52,7 +55,11 @@ public static String createFindQuery(Class<?> entityClass, String query, int par
         if (query == null) {
             return "FROM " + getEntityName(entityClass);
         }
+        return TranslatedQueries.of(entityClass).find(paramCount == 1).computeIfAbsent(query,
+                q -> translateFindQuery(entityClass, q, paramCount));
+    }
 
+    private static String translateFindQuery(Class<?> entityClass, String query, int paramCount) {
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty()) {
             return "FROM " + getEntityName(entityClass);
@@ -83,7 +90,11 @@ public static boolean isNamedQuery(String query) {
     public static String createQueryForCount(Class<?> entityClass, String query, int paramCount) {
         if (query == null || query.isEmpty())
             return "FROM " + getEntityName(entityClass);
+        return TranslatedQueries.of(entityClass).count(paramCount == 1).computeIfAbsent(query,
+                q -> translateQueryForCount(entityClass, q, paramCount));
+    }
 
+    private static String translateQueryForCount(Class<?> entityClass, String query, int paramCount) {
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty())
             return "FROM " + getEntityName(entityClass);
@@ -303,4 +314,55 @@ private static String unquoteColumnName(String columnName) {
         }
         return unquotedColumnName;
     }
+
+    /**
+     * Panache queries are almost always string literals, so we cache their translation per entity class instead of
+     * analysing and concatenating the query string on every call. The caches are bounded, in case an application builds
+     * query strings dynamically, and stored in the {@link Class} so that they are discarded together with the class.
+     */
+    private static final class TranslatedQueries {
+
+        private static final int MAX_SIZE = 512;
+
+        private static final ClassValue<TranslatedQueries> CACHE = new ClassValue<>() {
+            @Override
+            protected TranslatedQueries computeValue(Class<?> type) {
+                return new TranslatedQueries();
+            }
+        };
+
+        // the translation only depends on the query and on whether there is a single parameter
+        private final BoundedCache find = new BoundedCache();
+        private final BoundedCache findSingleParam = new BoundedCache();
+        private final BoundedCache count = new BoundedCache();
+        private final BoundedCache countSingleParam = new BoundedCache();
+
+        static TranslatedQueries of(Class<?> entityClass) {
+            return CACHE.get(entityClass);
+        }
+
+        BoundedCache find(boolean singleParam) {
+            return singleParam ? findSingleParam : find;
+        }
+
+        BoundedCache count(boolean singleParam) {
+            return singleParam ? countSingleParam : count;
+        }
+
+        private static final class BoundedCache {
+
+            private final ConcurrentMap<String, String> map = new ConcurrentHashMap<>();
+
+            String computeIfAbsent(String query, Function<String, String> translator) {
+                String translated = map.get(query);
+                if (translated == null) {
+                    translated = translator.apply(query);
+                    if (map.size() < MAX_SIZE) {
+                        map.putIfAbsent(query, translated);
+                    }
+                }
+                return translated;
+            }
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class TranslatedQueryTest {
+
+    @Test
+    public void testFindQuery() {
+        String entityName = PanacheJpaUtil.getEntityName(TranslatedQueryTest.class);
+        assertEquals("FROM " + entityName + " WHERE name = ?1", PanacheJpaUtil.createFindQuery(TranslatedQueryTest.class,
+                "name", 1));
+        // the translation depends on the number of parameters
+        assertEquals("FROM " + entityName + " WHERE name", PanacheJpaUtil.createFindQuery(TranslatedQueryTest.class,
+                "name", 2));
+        assertEquals("FROM " + entityName + " ORDER BY name", PanacheJpaUtil.createFindQuery(TranslatedQueryTest.class,
+                "ORDER BY name", 0));
+        // translated queries are cached
+        assertSame(PanacheJpaUtil.createFindQuery(TranslatedQueryTest.class, "name = ?1 and age > ?2", 2),
+                PanacheJpaUtil.createFindQuery(TranslatedQueryTest.class, "name = ?1 and age > ?2", 2));
+    }
+
+    @Test
+    public void testCountQuery() {
+        String entityName = PanacheJpaUtil.getEntityName(TranslatedQueryTest.class);
+        assertEquals("FROM " + entityName + " WHERE name = ?1", PanacheJpaUtil.createQueryForCount(TranslatedQueryTest.class,
+                "name", 1));
+        assertEquals("FROM " + entityName, PanacheJpaUtil.createQueryForCount(TranslatedQueryTest.class,
+                "ORDER BY name", 0));
+        // count and find queries are cached separately
+        assertEquals("FROM " + entityName + " ORDER BY name", PanacheJpaUtil.createFindQuery(TranslatedQueryTest.class,
+                "ORDER BY name", 0));
+        assertSame(PanacheJpaUtil.createQueryForCount(TranslatedQueryTest.class, "where age > ?1", 1),
+                PanacheJpaUtil.createQueryForCount(TranslatedQueryTest.class, "where age > ?1", 1));
+    }
+}
@@ -11,8 +11,10 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import jakarta.inject.Inject;
@@ -25,6 +27,8 @@
 
 import io.quarkus.cache.redis.runtime.RedisCacheImpl;
 import io.quarkus.cache.redis.runtime.RedisCacheInfo;
+import io.quarkus.cache.redis.runtime.RedisCacheMetrics;
+import io.quarkus.cache.redis.runtime.RedisLocalCacheInvalidations;
 import io.quarkus.test.QuarkusExtensionTest;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
@@ -217,6 +221,115 @@ public void testManualInvalidation() {
         assertThat(foo).isEqualTo("FOO");
     }
 
+    @Test
+    public void testLocalCache() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.localCacheMaximumSize = OptionalLong.of(100);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        await().until(cache::isLocalCacheActive);
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+
+        // remove the entry behind the back of the cache, the local copy is still served
+        redis.send(Request.cmd(Command.DEL).arg("cache:foo:" + k)).await().indefinitely();
+        assertThat(cache.get(k, s -> "world").await().indefinitely()).isEqualTo("hello");
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("hello");
+
+        // invalidation through the cache removes the local copy as well
+        cache.invalidate(k).await().indefinitely();
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isNull();
+        assertThat(cache.get(k, s -> "world").await().indefinitely()).isEqualTo("world");
+
+        cache.put(k, "hey").await().indefinitely();
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("hey");
+
+        cache.invalidateAll().await().indefinitely();
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isNull();
+    }
+
+    @Test
+    public void testLocalCacheInvalidationsArePropagated() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.localCacheMaximumSize = OptionalLong.of(100);
+        // two application instances
+        RedisCacheImpl cache1 = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        RedisCacheImpl cache2 = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        await().until(() -> cache1.isLocalCacheActive() && cache2.isLocalCacheActive());
+
+        assertThat(cache1.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        assertThat(cache2.get(k, s -> "world").await().indefinitely()).isEqualTo("hello");
+
+        cache1.put(k, "hey").await().indefinitely();
+        await().untilAsserted(() -> assertThat(cache2.getOrNull(k, String.class).await().indefinitely()).isEqualTo("hey"));
+
+        cache1.invalidate(k).await().indefinitely();
+        await().untilAsserted(() -> assertThat(cache2.getOrNull(k, String.class).await().indefinitely()).isNull());
+
+        assertThat(cache2.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        cache1.invalidateAll().await().indefinitely();
+        await().untilAsserted(() -> assertThat(cache2.getOrNull(k, String.class).await().indefinitely()).isNull());
+    }
+
+    @Test
+    public void testLocalCacheMetrics() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.localCacheMaximumSize = OptionalLong.of(100);
+        CountingMetrics metrics = new CountingMetrics();
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED,
+                new RedisLocalCacheInvalidations(redis), metrics);
+        await().until(cache::isLocalCacheActive);
+
+        // local miss, Redis miss
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        // local hit
+        assertThat(cache.get(k, s -> "world").await().indefinitely()).isEqualTo("hello");
+        cache.invalidate(k).await().indefinitely();
+        // local miss, Redis miss
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isNull();
+        // the value is not in the local cache yet
+        redis.send(Request.cmd(Command.SET).arg("cache:foo:" + k).arg("hey")).await().indefinitely();
+        // local miss, Redis hit
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("hey");
+
+        assertThat(metrics.localHits).hasValue(1);
+        assertThat(metrics.localMisses).hasValue(3);
+        assertThat(metrics.redisHits).hasValue(1);
+        assertThat(metrics.redisMisses).hasValue(2);
+    }
+
+    @Test
+    public void testConcurrentLoadsAreCoalesced() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        AtomicInteger loads = new AtomicInteger();
+        List<Uni<String>> unis = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            unis.add(cache.getAsync(k, key -> {
+                loads.incrementAndGet();
+                return Uni.createFrom().item("hello").onItem().delayIt().by(Duration.ofMillis(500));
+            }));
+        }
+        List<String> values = Uni.join().all(unis).andFailFast().await().atMost(Duration.ofSeconds(10));
+        assertThat(values).hasSize(10).containsOnly("hello");
+        assertThat(loads).hasValue(1);
+    }
+
     public static class Person {
         public String firstName;
         public String lastName;
@@ -642,4 +755,21 @@ private void assertThatTheKeyDoesNotExist(String key) {
         assertThat(getAllKeys()).doesNotContain(key);
     }
 
+    static class CountingMetrics implements RedisCacheMetrics {
+
+        final AtomicInteger localHits = new AtomicInteger();
+        final AtomicInteger localMisses = new AtomicInteger();
+        final AtomicInteger redisHits = new AtomicInteger();
+        final AtomicInteger redisMisses = new AtomicInteger();
+
+        @Override
+        public void recordLocal(boolean hit) {
+            (hit ? localHits : localMisses).incrementAndGet();
+        }
+
+        @Override
+        public void recordRedis(boolean hit) {
+            (hit ? redisHits : redisMisses).incrementAndGet();
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package io.quarkus.cache.redis.runtime;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * An instance of this class is created for each Redis cache when the application depends on a
+ * quarkus-micrometer-registry-* extension.
+ */
+public class MicrometerRedisCacheMetrics implements RedisCacheMetrics {
+
+    static final String GETS = "cache.redis.gets";
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public MicrometerRedisCacheMetrics(String cacheName) {
+        this.localHits = counter(cacheName, "local", "hit");
+        this.localMisses = counter(cacheName, "local", "miss");
+        this.redisHits = counter(cacheName, "redis", "hit");
+        this.redisMisses = counter(cacheName, "redis", "miss");
+    }
+
+    private static Counter counter(String cacheName, String layer, String result) {
+        return Counter.builder(GETS)
+                .description("The number of times cache lookup methods have returned a cached (hit) or missing (miss) value")
+                .tag("cache", cacheName)
+                .tag("layer", layer)
+                .tag("result", result)
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void recordLocal(boolean hit) {
+        (hit ? localHits : localMisses).increment();
+    }
+
+    @Override
+    public void recordRedis(boolean hit) {
+        (hit ? redisHits : redisMisses).increment();
+    }
+}
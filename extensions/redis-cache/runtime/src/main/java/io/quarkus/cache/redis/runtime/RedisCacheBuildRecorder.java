@@ -6,12 +6,16 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.runtime.BlockingOperationControl;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
 
 @Recorder
 public class RedisCacheBuildRecorder {
@@ -49,6 +53,10 @@ public CacheManager get() {
                         } else {
                             // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
                             Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                            Vertx vertx = Arc.container().select(Vertx.class).get();
+                            Redis redis = RedisCacheImpl.determineRedisClient(buildConfig.clientName());
+                            // all the caches receive the invalidations of their local cache on the same connection
+                            RedisLocalCacheInvalidations localCacheInvalidations = new RedisLocalCacheInvalidations(redis);
                             for (RedisCacheInfo cacheInfo : cacheInfos) {
                                 if (LOGGER.isDebugEnabled()) {
                                     LOGGER.debugf(
@@ -57,7 +65,11 @@ public CacheManager get() {
                                             cacheInfo.valueType);
                                 }
 
-                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
+                                RedisCacheMetrics metrics = context.metrics() == Context.Metrics.MICROMETER
+                                        ? new MicrometerRedisCacheMetrics(cacheInfo.name)
+                                        : RedisCacheMetrics.NONE;
+                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, vertx, redis,
+                                        BlockingOperationControl::isBlockingAllowed, localCacheInvalidations, metrics);
                                 caches.put(cacheInfo.name, cache);
                             }
                             return new CacheManagerImpl(caches);
@@ -4,10 +4,16 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -17,6 +23,9 @@
 
 import org.jboss.logging.Logger;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.cache.CacheException;
@@ -30,6 +39,7 @@
 import io.smallrye.mutiny.unchecked.Unchecked;
 import io.smallrye.mutiny.unchecked.UncheckedFunction;
 import io.smallrye.mutiny.vertx.MutinyHelper;
+import io.vertx.core.Context;
 import io.vertx.core.http.ConnectionPoolTooBusyException;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.redis.client.Redis;
@@ -57,13 +67,23 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    // the optional local cache of decoded values, keyed by the actual Redis key
+    private final Cache<String, Object> localCache;
+
+    private final RedisLocalCacheInvalidations localCacheInvalidations;
+
+    private final RedisCacheMetrics metrics;
+
+    // the loads that are currently in progress, keyed by the actual Redis key
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
                 BlockingOperationControl::isBlockingAllowed);
     }
 
-    private static Redis determineRedisClient(Optional<String> redisClientName) {
+    static Redis determineRedisClient(Optional<String> redisClientName) {
         ArcContainer container = Arc.container();
         if (redisClientName.isPresent()) {
             return container.select(Redis.class, RedisClientName.Literal.of(redisClientName.get())).get();
@@ -73,6 +93,16 @@ private static Redis determineRedisClient(Optional<String> redisClientName) {
     }
 
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier) {
+        this(cacheInfo, vertx, redis, blockingAllowedSupplier, new RedisLocalCacheInvalidations(redis),
+                RedisCacheMetrics.NONE);
+    }
+
+    /**
+     * @param localCacheInvalidations the invalidations of the local cache, can be shared by the caches that use the same
+     *        Redis client
+     */
+    public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier,
+            RedisLocalCacheInvalidations localCacheInvalidations, RedisCacheMetrics metrics) {
         this.vertx = vertx;
         this.cacheInfo = cacheInfo;
         this.blockingAllowedSupplier = blockingAllowedSupplier;
@@ -88,6 +118,34 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+
+        if (cacheInfo.localCacheMaximumSize.isPresent()) {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                    .maximumSize(cacheInfo.localCacheMaximumSize.getAsLong());
+            Optional<Duration> localExpireAfterWrite = cacheInfo.localCacheExpireAfterWrite.isPresent()
+                    ? cacheInfo.localCacheExpireAfterWrite
+                    : cacheInfo.expireAfterWrite;
+            if (localExpireAfterWrite.isPresent()) {
+                builder.expireAfterWrite(localExpireAfterWrite.get());
+            }
+            Cache<String, Object> localCache = builder.build();
+            localCacheInvalidations.addListener(new RedisLocalCacheInvalidations.Listener() {
+                @Override
+                public void invalidate(String actualKey) {
+                    localCache.invalidate(actualKey);
+                }
+
+                @Override
+                public void invalidateAll() {
+                    localCache.invalidateAll();
+                }
+            });
+            this.localCache = localCache;
+        } else {
+            this.localCache = null;
+        }
+        this.localCacheInvalidations = localCacheInvalidations;
+        this.metrics = metrics;
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -158,9 +216,14 @@ private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getLocal(actualKey);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        Uni<V> load = withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
@@ -175,6 +238,7 @@ public Uni<V> apply(RedisConnection connection) {
                         .chain(Unchecked.function(new UncheckedFunction<>() {
                             @Override
                             public Uni<V> apply(V cached) throws Exception {
+                                metrics.recordRedis(cached != null);
                                 if (cached != null) {
                                     // Unwatch if optimistic locking
                                     if (cacheInfo.useOptimisticLocking) {
@@ -211,7 +275,7 @@ public Uni<?> apply(V value) {
                         }));
             }
         })
-
+                .onItem().invoke(value -> putLocal(actualKey, value))
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(new Function<Throwable, Uni<? extends V>>() {
                     @Override
                     public Uni<? extends V> apply(Throwable e) {
@@ -219,6 +283,7 @@ public Uni<? extends V> apply(Throwable e) {
                         return computeValue(key, valueLoader, isWorkerThread);
                     }
                 });
+        return coalesce(actualKey, load);
     }
 
     @Override
@@ -238,8 +303,13 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
     }
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getLocal(actualKey);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        byte[] encodedKey = marshaller.encode(actualKey);
+        Uni<V> load = withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
@@ -252,6 +322,7 @@ public Uni<V> apply(RedisConnection connection) {
 
                 return startingPoint
                         .chain(cached -> {
+                            metrics.recordRedis(cached != null);
                             if (cached != null) {
                                 // Unwatch if optimistic locking
                                 if (cacheInfo.useOptimisticLocking) {
@@ -276,10 +347,12 @@ public Uni<V> apply(RedisConnection connection) {
                         });
             }
         })
+                .onItem().invoke(value -> putLocal(actualKey, value))
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
                     log.warn("Unable to connect to Redis, recomputing cached value", e);
                     return valueLoader.apply(key);
                 });
+        return coalesce(actualKey, load);
     }
 
     @Override
@@ -289,14 +362,18 @@ public <K, V> Uni<Void> put(K key, V value) {
 
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        byte[] encodedValue = marshaller.encode(supplier.get());
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        V value = supplier.get();
+        byte[] encodedValue = marshaller.encode(value);
         return withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
+                invalidateLocal(actualKey);
                 return set(connection, encodedKey, encodedValue);
             }
-        });
+        }).invoke(() -> putLocal(actualKey, value))
+                .call(() -> publishLocalInvalidations(List.of(actualKey)));
     }
 
     private void enforceDefaultType(String methodName) {
@@ -325,13 +402,7 @@ public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
     }
 
     private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
-            @Override
-            public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
-            }
-        }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        return getOrNull(key, type).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
 
     @Override
@@ -351,19 +422,32 @@ public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
     }
 
     private <K, V> Uni<V> getOrNull(K key, Type type) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getLocal(actualKey);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        byte[] encodedKey = marshaller.encode(actualKey);
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
                 return doGet(redisConnection, encodedKey, type, marshaller);
             }
+        }).onItem().invoke(value -> {
+            metrics.recordRedis(value != null);
+            putLocal(actualKey, value);
         });
     }
 
     @Override
     public Uni<Void> invalidate(Object key) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        invalidateLocal(actualKey);
         return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
+                // a concurrent read may have put the old value back before the key was deleted
+                .invoke(() -> invalidateLocal(actualKey))
+                .call(() -> publishLocalInvalidations(List.of(actualKey)))
                 .replaceWithVoid();
     }
 
@@ -374,6 +458,7 @@ public Uni<Void> invalidateAll() {
 
     @Override
     public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        invalidateLocalIf(predicate);
         return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Set<String>>>() {
             @Override
             public void accept(UniEmitter<? super Set<String>> uniEmitter) {
@@ -383,25 +468,39 @@ public void accept(UniEmitter<? super Set<String>> uniEmitter) {
             @Override
             public Uni<?> apply(Set<String> setOfKeys) {
                 var req = Request.cmd(Command.DEL);
-                boolean hasAtLeastOneMatch = false;
+                List<String> matchingKeys = new ArrayList<>();
                 for (String key : setOfKeys) {
                     Object userKey = computeUserKey(key);
                     if (predicate.test(userKey)) {
-                        hasAtLeastOneMatch = true;
+                        matchingKeys.add(key);
                         req.arg(marshaller.encode(key));
                     }
                 }
-                if (hasAtLeastOneMatch) {
+                if (!matchingKeys.isEmpty()) {
                     // We cannot send the command without parameters, it would not be a valid command.
-                    return redis.send(req);
+                    return redis.send(req)
+                            .call(() -> publishLocalInvalidations(matchingKeys));
                 } else {
                     return Uni.createFrom().voidItem();
                 }
             }
         })
+                // a concurrent read may have put an old value back before the keys were deleted
+                .invoke(() -> invalidateLocalIf(predicate))
                 .replaceWithVoid();
     }
 
+    private void invalidateLocalIf(Predicate<Object> predicate) {
+        if (localCache != null) {
+            localCache.asMap().keySet().removeIf(new Predicate<String>() {
+                @Override
+                public boolean test(String key) {
+                    return predicate.test(computeUserKey(key));
+                }
+            });
+        }
+    }
+
     private void scanForKeys(String cursor, Set<String> result, UniEmitter<? super Set<String>> em) {
         Request cmd = Request.cmd(Command.SCAN).arg(cursor)
                 .arg("MATCH").arg(getKeyPattern());
@@ -457,6 +556,89 @@ private String getKeyPrefix() {
         }
     }
 
+    /**
+     * Makes sure that concurrent loads of the same key on this node result in a single {@code GET}, value loader
+     * invocation and {@code SET}. The first subscriber performs the {@code load}, other subscribers that arrive while it
+     * is in progress receive its outcome.
+     */
+    @SuppressWarnings("unchecked")
+    private <V> Uni<V> coalesce(String actualKey, Uni<V> load) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                CompletableFuture<Object> future = new CompletableFuture<>();
+                CompletableFuture<Object> existing = inFlightLoads.putIfAbsent(actualKey, future);
+                if (existing != null) {
+                    Uni<V> result = Uni.createFrom().completionStage(existing)
+                            .map(value -> (V) value);
+                    // the load completes on the context of the subscriber that performed it, not this one
+                    Context context = io.vertx.core.Vertx.currentContext();
+                    if (context != null) {
+                        result = result.emitOn(MutinyHelper.executor(context));
+                    }
+                    // the subscriber that performed the load went away, let's do it ourselves
+                    return result.onFailure(CancellationException.class).recoverWithUni(() -> load);
+                }
+                return load
+                        .onItemOrFailure().invoke((value, failure) -> {
+                            inFlightLoads.remove(actualKey, future);
+                            if (failure != null) {
+                                future.completeExceptionally(failure);
+                            } else {
+                                future.complete(value);
+                            }
+                        })
+                        .onCancellation().invoke(() -> {
+                            inFlightLoads.remove(actualKey, future);
+                            future.cancel(false);
+                        });
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V getLocal(String actualKey) {
+        // the local cache is only used while the invalidations of the other application instances are received
+        if (localCache == null || !localCacheInvalidations.isSubscribed()) {
+            return null;
+        }
+        V value = (V) localCache.getIfPresent(actualKey);
+        metrics.recordLocal(value != null);
+        return value;
+    }
+
+    private void putLocal(String actualKey, Object value) {
+        if (localCache != null && value != null && localCacheInvalidations.isSubscribed()) {
+            localCache.put(actualKey, value);
+        }
+    }
+
+    // visible only for tests
+    public boolean isLocalCacheActive() {
+        return localCache != null && localCacheInvalidations.isSubscribed();
+    }
+
+    private Uni<Void> publishLocalInvalidations(List<String> actualKeys) {
+        if (localCache == null) {
+            return Uni.createFrom().voidItem();
+        }
+        return localCacheInvalidations.publish(actualKeys)
+                .onFailure().recoverWithUni(new Function<Throwable, Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> apply(Throwable e) {
+                        log.warn("Unable to publish the invalidation of the local caches of the other application instances",
+                                e);
+                        return Uni.createFrom().voidItem();
+                    }
+                });
+    }
+
+    private void invalidateLocal(String actualKey) {
+        if (localCache != null) {
+            localCache.invalidate(actualKey);
+        }
+    }
+
     private <X> Uni<X> withConnection(Function<RedisConnection, Uni<X>> function) {
         return redis.connect()
                 .chain(new Function<RedisConnection, Uni<? extends X>>() {
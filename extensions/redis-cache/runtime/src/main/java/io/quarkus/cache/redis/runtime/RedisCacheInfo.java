@@ -4,6 +4,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 public class RedisCacheInfo {
 
@@ -51,4 +52,15 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * If set, values are also kept in a local in-memory cache of this maximum size.
+     */
+    public OptionalLong localCacheMaximumSize = OptionalLong.empty();
+
+    /**
+     * The time to live of the entries of the local in-memory cache.
+     * If not set, {@link #expireAfterWrite} is used.
+     */
+    public Optional<Duration> localCacheExpireAfterWrite = Optional.empty();
 }
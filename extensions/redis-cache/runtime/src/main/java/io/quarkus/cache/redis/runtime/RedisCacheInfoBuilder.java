@@ -67,6 +67,18 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.localCacheMaximumSize().isPresent()) {
+                    cacheInfo.localCacheMaximumSize = namedRuntimeConfig.localCacheMaximumSize();
+                } else if (defaultRuntimeConfig.localCacheMaximumSize().isPresent()) {
+                    cacheInfo.localCacheMaximumSize = defaultRuntimeConfig.localCacheMaximumSize();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.localCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.localCacheExpireAfterWrite = namedRuntimeConfig.localCacheExpireAfterWrite();
+                } else if (defaultRuntimeConfig.localCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.localCacheExpireAfterWrite = defaultRuntimeConfig.localCacheExpireAfterWrite();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
@@ -0,0 +1,27 @@
+package io.quarkus.cache.redis.runtime;
+
+/**
+ * Records the hits and misses of a Redis cache, separately for its local cache and for Redis.
+ */
+public interface RedisCacheMetrics {
+
+    RedisCacheMetrics NONE = new RedisCacheMetrics() {
+        @Override
+        public void recordLocal(boolean hit) {
+        }
+
+        @Override
+        public void recordRedis(boolean hit) {
+        }
+    };
+
+    /**
+     * Records a lookup in the local cache.
+     */
+    void recordLocal(boolean hit);
+
+    /**
+     * Records a lookup in Redis, i.e. a lookup that was not served by the local cache.
+     */
+    void recordRedis(boolean hit);
+}
@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 
@@ -49,4 +50,22 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * If set, values read from or written to Redis are also kept in a local in-memory cache of the given maximum size,
+     * so that repeated reads of the same key don't need a round trip to Redis.
+     * <p>
+     * Invalidations and replacements are propagated to the local caches of the other application instances through the
+     * {@code quarkus-cache:local-invalidations} Redis pub/sub channel. The local cache is only used while this channel is
+     * subscribed to, and it is cleared when the subscription is lost.
+     */
+    OptionalLong localCacheMaximumSize();
+
+    /**
+     * Specifies that each entry should be automatically removed from the local cache once a fixed duration has elapsed
+     * after the entry's creation, or the most recent replacement of its value. If not set, {@link #expireAfterWrite()} is
+     * used. If neither is set, the local entries do not expire and are only removed when the local cache is full or when
+     * the value is invalidated or replaced.
+     */
+    Optional<Duration> localCacheExpireAfterWrite();
 }
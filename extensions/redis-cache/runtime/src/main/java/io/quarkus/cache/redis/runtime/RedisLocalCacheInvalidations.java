@@ -0,0 +1,150 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+/**
+ * Propagates the invalidations of the local caches of the Redis caches to the other application instances, through a Redis
+ * pub/sub channel. The invalidations of all the caches that use the same Redis client are received on a single connection.
+ * Each message is the identifier of the application instance that published it, followed by a space and the actual Redis
+ * key of the invalidated entry.
+ * <p>
+ * Messages may be lost while the connection is not subscribed, so the local caches are only used once the subscription is
+ * confirmed, and they are cleared when the connection ends. The subscription is started, or restarted, by the first use of
+ * a local cache.
+ */
+public class RedisLocalCacheInvalidations {
+
+    private static final Logger log = Logger.getLogger(RedisLocalCacheInvalidations.class);
+
+    static final String CHANNEL = "quarkus-cache:local-invalidations";
+
+    private static final char SEPARATOR = ' ';
+
+    private final Redis redis;
+
+    // identifies the messages published by this application instance
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private final AtomicBoolean connecting = new AtomicBoolean();
+
+    private volatile boolean subscribed;
+
+    // the connection that receives the invalidations, guarded by this
+    private RedisConnection connection;
+
+    public RedisLocalCacheInvalidations(Redis redis) {
+        this.redis = redis;
+    }
+
+    void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return {@code true} if the invalidations of the other application instances are received, starts the subscription
+     *         otherwise
+     */
+    boolean isSubscribed() {
+        if (subscribed) {
+            return true;
+        }
+        if (connecting.compareAndSet(false, true)) {
+            subscribe();
+        }
+        return false;
+    }
+
+    Uni<Void> publish(Collection<String> actualKeys) {
+        if (actualKeys.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        List<Request> requests = new ArrayList<>(actualKeys.size());
+        for (String actualKey : actualKeys) {
+            requests.add(Request.cmd(Command.PUBLISH).arg(CHANNEL).arg(instanceId + SEPARATOR + actualKey));
+        }
+        return redis.batch(requests).replaceWithVoid();
+    }
+
+    private void subscribe() {
+        redis.connect().subscribe().with(connection -> {
+            synchronized (this) {
+                this.connection = connection;
+            }
+            connection.handler(this::handle);
+            connection.endHandler(() -> unsubscribed(connection));
+            connection.exceptionHandler(failure -> {
+                log.warn("Failure on the Redis connection that receives the local cache invalidations", failure);
+                unsubscribed(connection);
+            });
+            connection.send(Request.cmd(Command.SUBSCRIBE).arg(CHANNEL)).subscribe().with(ignored -> {
+            }, failure -> {
+                log.warn("Unable to subscribe to the local cache invalidations", failure);
+                unsubscribed(connection);
+            });
+        }, failure -> {
+            log.warn("Unable to connect to Redis to receive the local cache invalidations", failure);
+            connecting.set(false);
+        });
+    }
+
+    private void handle(Response response) {
+        if (response == null || response.size() == 0) {
+            return;
+        }
+        String type = response.get(0).toString();
+        if ("subscribe".equalsIgnoreCase(type)) {
+            subscribed = true;
+        } else if ("message".equalsIgnoreCase(type)) {
+            String message = response.get(2).toString();
+            int separator = message.indexOf(SEPARATOR);
+            if (separator < 0 || separator == instanceId.length() && message.startsWith(instanceId)) {
+                // not an invalidation, or published by this application instance
+                return;
+            }
+            String actualKey = message.substring(separator + 1);
+            for (Listener listener : listeners) {
+                listener.invalidate(actualKey);
+            }
+        }
+    }
+
+    private void unsubscribed(RedisConnection connection) {
+        synchronized (this) {
+            if (this.connection != connection) {
+                // already handled
+                return;
+            }
+            this.connection = null;
+        }
+        subscribed = false;
+        // the invalidations published in the meantime are lost
+        for (Listener listener : listeners) {
+            listener.invalidateAll();
+        }
+        connection.closeAndForget();
+        connecting.set(false);
+    }
+
+    interface Listener {
+
+        void invalidate(String actualKey);
+
+        void invalidateAll();
+    }
+}
@@ -19,4 +19,16 @@ public interface RestQuteConfig {
     @WithDefault("false")
     boolean templateInstanceNonBlockingType();
 
+    /**
+     * If set to {@code true} then a {@link io.quarkus.qute.TemplateInstance} returned from a JAX-RS resource method is
+     * rendered directly into a Vert.x {@code Buffer}, provided that the selected variant has the UTF-8 or no charset. The
+     * static text of the template is written as UTF-8 bytes encoded once per template and no intermediate string of the
+     * whole rendered template is created.
+     * <p>
+     * Note that the response entity is a {@code Buffer} and not a {@code String} in this case. Container response filters
+     * and writer interceptors that expect a {@code String} entity must not be used.
+     */
+    @WithDefault("false")
+    boolean renderToBuffer();
+
 }
@@ -57,7 +57,8 @@ void nonBlockingTemplateInstance(RestQuteConfig config, BuildProducer<NonBlockin
     }
 
     @BuildStep
-    public MethodScannerBuildItem configureHandler() {
+    public MethodScannerBuildItem configureHandler(RestQuteConfig config) {
+        boolean renderToBuffer = config.renderToBuffer();
         return new MethodScannerBuildItem(new MethodScanner() {
             @Override
             public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
@@ -68,7 +69,7 @@ public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndp
                     // the reason why we use AFTER_METHOD_INVOKE_SECOND_ROUND is to be able to properly support Uni<TemplateInstance>
                     return Collections.singletonList(
                             new FixedHandlersChainCustomizer(
-                                    List.of(new TemplateResponseUniHandler(), new UniResponseHandler()),
+                                    List.of(new TemplateResponseUniHandler(renderToBuffer), new UniResponseHandler()),
                                     HandlerChainCustomizer.Phase.AFTER_METHOD_INVOKE_SECOND_ROUND));
                 }
                 return Collections.emptyList();
@@ -0,0 +1,90 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.container.ContainerResponseContext;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.Variant;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.core.buffer.Buffer;
+
+public class TemplateRenderToBufferTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, EntityTypeFilter.class)
+                    .addAsResource(new StringAsset("quarkus.rest.qute.render-to-buffer=true"),
+                            "application.properties")
+                    .addAsResource(new StringAsset("Ahoj {name}, čau! ☕"), "templates/hello.txt")
+                    .addAsResource(new StringAsset("Grüße {name}!"), "templates/greeting.txt"));
+
+    @Test
+    public void testNonAscii() {
+        when().get("/test/hello").then().statusCode(200)
+                .contentType(Matchers.startsWith("text/plain"))
+                .header("X-Entity-Type", "Buffer")
+                .body(Matchers.is("Ahoj Žofie, čau! ☕"));
+    }
+
+    @Test
+    public void testNonUtf8Variant() {
+        byte[] body = when().get("/test/greeting").then().statusCode(200)
+                .contentType(Matchers.containsStringIgnoringCase("charset=ISO-8859-1"))
+                // Only the UTF-8 variants are rendered into a buffer
+                .header("X-Entity-Type", "String")
+                .extract().asByteArray();
+        assertArrayEquals("Grüße Jürgen!".getBytes(StandardCharsets.ISO_8859_1), body);
+    }
+
+    @Path("test")
+    public static class TestResource {
+
+        @Inject
+        Template hello;
+
+        @Inject
+        Template greeting;
+
+        @GET
+        @Path("hello")
+        public TemplateInstance hello() {
+            return hello.data("name", "Žofie");
+        }
+
+        @GET
+        @Path("greeting")
+        public TemplateInstance greeting() {
+            return greeting.data("name", "Jürgen")
+                    .setAttribute(TemplateInstance.VARIANTS, List.of(new Variant(Locale.ROOT,
+                            StandardCharsets.ISO_8859_1, "text/plain;charset=ISO-8859-1")));
+        }
+    }
+
+    public static class EntityTypeFilter {
+
+        @ServerResponseFilter
+        public void filter(ContainerResponseContext responseContext) {
+            Object entity = responseContext.getEntity();
+            responseContext.getHeaders().add("X-Entity-Type",
+                    entity instanceof Buffer ? "Buffer" : entity.getClass().getSimpleName());
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.util.Locale;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.container.ContainerResponseContext;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class TemplateResponseFilterTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, UpperCaseFilter.class)
+                    .addAsResource(new StringAsset("Ahoj {name}, čau!"), "templates/hello.txt"));
+
+    @Test
+    public void testStringEntity() {
+        // The template is rendered into a String unless quarkus.rest.qute.render-to-buffer=true
+        when().get("/test").then().statusCode(200).body(Matchers.is("AHOJ ŽOFIE, ČAU!"));
+    }
+
+    @Path("test")
+    public static class TestResource {
+
+        @Inject
+        Template hello;
+
+        @GET
+        public TemplateInstance get() {
+            return hello.data("name", "Žofie");
+        }
+    }
+
+    public static class UpperCaseFilter {
+
+        @ServerResponseFilter
+        public void filter(ContainerResponseContext responseContext) {
+            if (responseContext.getEntity() instanceof String entity) {
+                responseContext.setEntity(entity.toUpperCase(Locale.ROOT));
+            }
+        }
+    }
+
+}
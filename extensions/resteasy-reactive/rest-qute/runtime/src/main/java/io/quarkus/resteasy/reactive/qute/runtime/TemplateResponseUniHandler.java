@@ -14,8 +14,24 @@
 
 public class TemplateResponseUniHandler implements ServerRestHandler {
 
+    private boolean renderToBuffer;
     private volatile Engine engine;
 
+    public TemplateResponseUniHandler() {
+    }
+
+    public TemplateResponseUniHandler(boolean renderToBuffer) {
+        this.renderToBuffer = renderToBuffer;
+    }
+
+    public boolean isRenderToBuffer() {
+        return renderToBuffer;
+    }
+
+    public void setRenderToBuffer(boolean renderToBuffer) {
+        this.renderToBuffer = renderToBuffer;
+    }
+
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) {
         Object result = requestContext.getResult();
@@ -35,10 +51,13 @@ public void handle(ResteasyReactiveRequestContext requestContext) {
         requestContext.setResult(createUni(requestContext, (TemplateInstance) result, engine));
     }
 
-    private Uni<String> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
+    private Uni<?> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
         MediaType mediaType = setSelectedVariant(result, requestContext.getRequest(),
                 requestContext.getHttpHeaders().getAcceptableLanguages());
         requestContext.setResponseContentType(mediaType);
+        if (renderToBuffer && isUtf8(mediaType)) {
+            return toBufferUni(result, engine);
+        }
         return toUni(result, engine);
     }
 
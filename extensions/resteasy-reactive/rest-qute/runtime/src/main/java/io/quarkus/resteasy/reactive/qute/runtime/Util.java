@@ -1,5 +1,6 @@
 package io.quarkus.resteasy.reactive.qute.runtime;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -12,8 +13,10 @@
 import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateException;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.Utf8Consumer;
 import io.quarkus.qute.Variant;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
 
 final class Util {
 
@@ -21,7 +24,45 @@ private Util() {
     }
 
     static Uni<String> toUni(TemplateInstance instance, Engine engine) {
-        Uni<String> uni = instance.createUni();
+        return withTimeout(instance.createUni(), instance, engine);
+    }
+
+    /**
+     * The static text of the template is written as precomputed UTF-8 bytes and the dynamic parts are encoded directly into
+     * the buffer, i.e. no intermediate string of the whole rendered template is created.
+     */
+    static Uni<Buffer> toBufferUni(TemplateInstance instance, Engine engine) {
+        Uni<Buffer> uni = Uni.createFrom().deferred(() -> {
+            Buffer buffer = Buffer.buffer();
+            return Uni.createFrom().completionStage(instance.consume(new Utf8Consumer() {
+
+                @Override
+                public void accept(String value) {
+                    buffer.appendString(value);
+                }
+
+                @Override
+                public void accept(byte[] bytes) {
+                    buffer.appendBytes(bytes);
+                }
+            })).replaceWith(buffer);
+        });
+        return withTimeout(uni, instance, engine);
+    }
+
+    /**
+     * @return {@code true} if the template can be rendered with {@link #toBufferUni(TemplateInstance, Engine)}
+     */
+    static boolean isUtf8(MediaType mediaType) {
+        if (mediaType == null) {
+            // The content type may be set later, e.g. from @Produces, and the charset is unknown
+            return false;
+        }
+        String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        return charset == null || StandardCharsets.UTF_8.name().equalsIgnoreCase(charset);
+    }
+
+    private static <T> Uni<T> withTimeout(Uni<T> uni, TemplateInstance instance, Engine engine) {
         if (!engine.useAsyncTimeout()) {
             // Make sure the timeout is always used
             long timeout = instance.getTimeout();
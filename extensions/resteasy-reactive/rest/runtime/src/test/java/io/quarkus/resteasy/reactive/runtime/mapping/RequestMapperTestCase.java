@@ -33,6 +33,21 @@ void testMap() {
         Assertions.assertEquals("34", result.pathParamValues[0]);
     }
 
+    @Test
+    void testParamValuesOfFailedCandidateAreCleared() {
+        RequestMapper<String> mapper = mapper(false, "/x/{a}/{b}/c", "/x/{c}/z");
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/x/1/z");
+        Assertions.assertEquals("/x/{c}/z", result.value);
+        Assertions.assertEquals("1", result.pathParamValues[0]);
+        Assertions.assertNull(result.pathParamValues[1]);
+
+        result = mapper.map("/x/1/2/c");
+        Assertions.assertEquals("/x/{a}/{b}/c", result.value);
+        Assertions.assertEquals("1", result.pathParamValues[0]);
+        Assertions.assertEquals("2", result.pathParamValues[1]);
+    }
+
     @Test
     public void testContinueMatching() {
         RequestMapper<String> mapper = mapper(true, "/greetings", "/greetings/{id}", "/greetings/unrelated");
@@ -0,0 +1,52 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class SubSecondIntervalTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testSubSecondInterval() throws InterruptedException {
+        // The old implementation checked the triggers once per second
+        assertTrue(Jobs.LATCH.await(2, TimeUnit.SECONDS));
+
+        CountDownLatch programmaticLatch = new CountDownLatch(10);
+        scheduler.newJob("foo")
+                .setInterval("0.1s")
+                .setTask(ex -> programmaticLatch.countDown())
+                .schedule();
+        assertTrue(programmaticLatch.await(2, TimeUnit.SECONDS));
+        scheduler.unscheduleJob("foo");
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(10);
+
+        @Scheduled(every = "0.1s")
+        void ping() {
+            LATCH.countDown();
+        }
+
+    }
+
+}
@@ -2,7 +2,6 @@
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
@@ -14,7 +13,9 @@
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -69,9 +70,15 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
 
     private static final Logger LOG = Logger.getLogger(SimpleScheduler.class);
 
-    // milliseconds
+    /**
+     * @deprecated triggers are no longer checked periodically; each job is scheduled for its next fire time
+     */
+    @Deprecated(forRemoval = true)
     public static final long CHECK_PERIOD = 1000L;
 
+    // milliseconds
+    public static final long MIN_INTERVAL = 1L;
+
     private final ScheduledExecutorService scheduledExecutor;
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
@@ -126,13 +133,17 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
-        this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
+        // This executor is used to evaluate each registered trigger at its next fire time
+        // The underlying delay queue is a binary heap, i.e. scheduling and cancellation are O(log n)
+        JBossScheduledThreadPoolExecutor executor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
                 // noop
             }
         });
+        // Make sure unscheduled jobs do not stay in the queue until their next fire time
+        executor.setRemoveOnCancelPolicy(true);
+        this.scheduledExecutor = executor;
 
         if (startMode == StartMode.HALTED) {
             running = false;
@@ -199,6 +210,7 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    task.cancel();
                     return task.trigger;
                 }
             }
@@ -211,12 +223,9 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        for (ScheduledTask task : scheduledTasks.values()) {
+            task.schedule();
+        }
     }
 
     @PreDestroy
@@ -230,18 +239,6 @@ void stop() {
         }
     }
 
-    void checkTriggers() {
-        if (!running) {
-            LOG.trace("Skip all triggers - scheduler paused");
-            return;
-        }
-        ZonedDateTime now = ZonedDateTime.now();
-        LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
-            task.execute(now, vertx);
-        }
-    }
-
     @Override
     public void pause() {
         if (!isStarted()) {
@@ -292,6 +289,10 @@ public void resume() {
             throw notStarted();
         }
         running = true;
+        // Tasks are not rescheduled while the scheduler is paused
+        for (ScheduledTask task : scheduledTasks.values()) {
+            task.schedule();
+        }
         events.fireSchedulerResumed();
     }
 
@@ -309,6 +310,7 @@ public void resume(String identity) {
         ScheduledTask task = scheduledTasks.get(parsedIdentity);
         if (task != null) {
             task.trigger.setRunning(true);
+            task.schedule();
             events.fireScheduledJobResumed(new ScheduledJobResumed(task.trigger));
         }
     }
@@ -378,22 +380,62 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Sched
         }
     }
 
-    static class ScheduledTask {
+    class ScheduledTask {
 
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
 
+        private ScheduledFuture<?> next;
+
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
             this.invoker = invoker;
             this.isProgrammatic = isProgrammatic;
         }
 
-        void execute(ZonedDateTime now, Vertx vertx) {
-            if (!trigger.isRunning()) {
+        /**
+         * Schedules the next evaluation of the trigger, replacing the pending one if needed.
+         */
+        synchronized void schedule() {
+            if (next != null) {
+                next.cancel(false);
+                next = null;
+            }
+            Instant nextFireTime = trigger.getNextFireTime();
+            if (nextFireTime == null) {
+                LOG.debugf("%s has no next fire time and will not be evaluated anymore", trigger);
+                return;
+            }
+            // The delay queue is driven by System.nanoTime() so the task may be executed slightly before the fire time;
+            // in that case the trigger is not fired and the task is simply rescheduled
+            long delay = Math.max(MIN_INTERVAL, ChronoUnit.MILLIS.between(Instant.now(), nextFireTime));
+            try {
+                next = scheduledExecutor.schedule(this::execute, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // The scheduler is being stopped
+                LOG.debugf("Unable to schedule %s: %s", trigger, e.getMessage());
+            }
+        }
+
+        synchronized void cancel() {
+            if (next != null) {
+                next.cancel(false);
+                next = null;
+            }
+        }
+
+        void execute() {
+            if (scheduledTasks.get(trigger.id) != this) {
+                // Unscheduled in the meantime
                 return;
             }
+            if (!running || !trigger.isRunning()) {
+                // Rescheduled when resumed
+                LOG.tracef("Skip %s - paused", trigger);
+                return;
+            }
+            ZonedDateTime now = ZonedDateTime.now();
             ZonedDateTime scheduledFireTime = trigger.evaluate(now);
             if (scheduledFireTime != null) {
                 try {
@@ -402,6 +444,7 @@ void execute(ZonedDateTime now, Vertx vertx) {
                     // already logged by the StatusEmitterInvoker
                 }
             }
+            schedule();
         }
 
     }
@@ -469,10 +512,10 @@ static class IntervalTrigger extends SimpleTrigger {
             super(id, start, methodDescription, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
+            if (interval < MIN_INTERVAL) {
                 LOG.warnf(
                         "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
-                        CHECK_PERIOD, description);
+                        MIN_INTERVAL, description);
             }
         }
 
@@ -483,13 +526,14 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = now;
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                // Keep a fixed rate unless the execution is late by more than one interval, e.g. after the job was paused
+                lastFireTime = diff < 2 * interval ? scheduledFireTime : now;
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
@@ -500,7 +544,8 @@ ZonedDateTime evaluate(ZonedDateTime now) {
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
             if (last == null) {
-                last = start;
+                // The first execution is not delayed by the interval
+                return start.toInstant();
             }
             return last.plus(Duration.ofMillis(interval)).toInstant();
         }
@@ -687,6 +732,7 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                scheduledTask.schedule();
                 return simpleTrigger;
             }
             return null;
@@ -0,0 +1,25 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * Static resources from {@code META-INF/resources} that were compressed with gzip at build time.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, String> etags;
+
+    public PrecompressedStaticResourcesBuildItem(Map<String, String> etags) {
+        this.etags = etags;
+    }
+
+    /**
+     * @return the entity tag of the compressed variant, keyed by the path of the static resource
+     */
+    public Map<String, String> getEtags() {
+        return etags;
+    }
+
+}
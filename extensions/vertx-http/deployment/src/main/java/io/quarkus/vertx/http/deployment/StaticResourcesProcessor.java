@@ -2,13 +2,22 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
@@ -19,14 +28,20 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.paths.PathVisitor;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
+import io.quarkus.vertx.http.deployment.spi.GeneratedStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.vertx.core.http.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
@@ -59,13 +74,81 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    @BuildStep
+    void precompressStaticResources(VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            LaunchModeBuildItem launchModeBuildItem,
+            Optional<StaticResourcesBuildItem> staticResources,
+            List<GeneratedStaticResourceBuildItem> generatedStaticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedStaticResources) {
+        LaunchMode launchMode = launchModeBuildItem.getLaunchMode();
+        if (staticResources.isEmpty()
+                || launchMode == LaunchMode.DEVELOPMENT
+                || !httpBuildTimeConfig.enableCompression()
+                || !httpBuildTimeConfig.precompressStaticResources()
+                || httpBuildTimeConfig.compressMediaTypes().isEmpty()) {
+            return;
+        }
+        Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes().get());
+        Set<String> knownPaths = staticResources.get().getPaths();
+        Set<String> visited = new HashSet<>();
+        Map<String, String> etags = new HashMap<>();
+        BiConsumer<String, Supplier<byte[]>> precompressor = new BiConsumer<>() {
+            @Override
+            public void accept(String path, Supplier<byte[]> content) {
+                // The first resource found is the one served at runtime
+                // and we never replace a compressed file provided by the application
+                if (!visited.add(path) || knownPaths.contains(path + StaticResourcesRecorder.GZIP_SUFFIX)) {
+                    return;
+                }
+                String contentType = MimeMapping.mimeTypeForFilename(path);
+                if (contentType == null || !compressMediaTypes.contains(contentType)) {
+                    return;
+                }
+                byte[] data = content.get();
+                byte[] compressed = gzip(data);
+                if (compressed.length >= data.length) {
+                    return;
+                }
+                String resourceName = StaticResourcesRecorder.META_INF_RESOURCES + path
+                        + StaticResourcesRecorder.GZIP_SUFFIX;
+                generatedResources.produce(new GeneratedResourceBuildItem(resourceName, compressed));
+                nativeImageResources.produce(new NativeImageResourceBuildItem(resourceName));
+                etags.put(path, '"' + HashUtil.sha256(compressed) + '"');
+            }
+        };
+
+        final String prefix = StaticResourcesRecorder.META_INF_RESOURCES;
+        visitRuntimeMetaInfResources(visit -> {
+            Path visitPath = visit.getPath();
+            String rel = visit.getResourceName();
+            if (!Files.isDirectory(visitPath) && rel.startsWith(prefix)) {
+                precompressor.accept(rel.substring(prefix.length()), () -> readAllBytes(visitPath));
+            }
+        });
+        if (launchMode.isProduction()) {
+            // Generated static resources are only served from META-INF/resources in the production mode
+            for (GeneratedStaticResourceBuildItem generatedStaticResource : generatedStaticResources) {
+                precompressor.accept(generatedStaticResource.getEndpoint(),
+                        () -> generatedStaticResource.isFile() ? readAllBytes(generatedStaticResource.getFile())
+                                : generatedStaticResource.getContent());
+            }
+        }
+        if (!etags.isEmpty()) {
+            precompressedStaticResources.produce(new PrecompressedStaticResourcesBuildItem(etags));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                    precompressedStaticResources.map(PrecompressedStaticResourcesBuildItem::getEtags).orElseGet(HashMap::new))));
         }
     }
 
@@ -123,6 +206,29 @@ private Set<StaticResourcesBuildItem.Entry> getClasspathResources() {
         return knownPaths;
     }
 
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        // The resource is compressed once, so we can afford the best compression
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] readAllBytes(Path path) {
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the static resource " + path, e);
+        }
+    }
+
     /**
      * Visits all {@code META-INF/resources} directories and their content found on the runtime classpath
      *
@@ -49,6 +49,8 @@
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.ShutdownListenerBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.JniRuntimeAccessBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourcePatternsBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
@@ -97,6 +99,7 @@ class VertxHttpProcessor {
 
     private static final String META_INF_SERVICES_EXCHANGE_ATTRIBUTE_BUILDER = "META-INF/services/io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeBuilder";
     private static final Logger logger = Logger.getLogger(VertxHttpProcessor.class);
+    private static final String ZSTD_JNI_CLASS = "com.github.luben.zstd.Zstd";
 
     // For enabling HTTPS port in Kubernetes
     private static final String HTTP_SSL_PREFIX = "quarkus.http.ssl.certificate.";
@@ -669,6 +672,27 @@ ModuleEnableNativeAccessBuildItem brotli4jEnableNativeAccess(VertxHttpBuildTimeC
         return null;
     }
 
+    @BuildStep
+    void zstdNativeSupport(VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            BuildProducer<NativeImageResourcePatternsBuildItem> resourcePatterns,
+            BuildProducer<JniRuntimeAccessBuildItem> jniRuntimeAccess,
+            BuildProducer<RuntimeInitializedClassBuildItem> runtimeInitializedClasses) {
+        if (isZstdEnabled(httpBuildTimeConfig) && QuarkusClassLoader.isClassPresentAtRuntime(ZSTD_JNI_CLASS)) {
+            // zstd-jni extracts its JNI library from the classpath when it is first used, e.g. linux/amd64/libzstd-jni-*.so
+            resourcePatterns.produce(NativeImageResourcePatternsBuildItem.builder()
+                    .includeGlobs("linux/**/libzstd-jni-*", "darwin/**/libzstd-jni-*", "win/**/libzstd-jni-*")
+                    .build());
+            jniRuntimeAccess.produce(new JniRuntimeAccessBuildItem(true, true, true, ZSTD_JNI_CLASS,
+                    "com.github.luben.zstd.ZstdException"));
+            runtimeInitializedClasses.produce(new RuntimeInitializedClassBuildItem("com.github.luben.zstd.util.Native"));
+        }
+    }
+
+    private static boolean isZstdEnabled(VertxHttpBuildTimeConfig httpBuildTimeConfig) {
+        return httpBuildTimeConfig.compressors().isPresent()
+                && httpBuildTimeConfig.compressors().get().stream().anyMatch(s -> s.equalsIgnoreCase("zstd"));
+    }
+
     private static boolean isBrotliEnabled(VertxHttpBuildTimeConfig httpBuildTimeConfig) {
         return httpBuildTimeConfig.compressors().isPresent()
                 && httpBuildTimeConfig.compressors().get().stream().anyMatch(s -> s.equalsIgnoreCase("br"));
@@ -0,0 +1,63 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+
+public class PrecompressedStaticResourcesTest {
+
+    @RegisterExtension
+    final static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html")
+                    .addAsResource("static-file.html", "META-INF/resources/image.svg"));
+
+    @Test
+    public void shouldSendPrecompressedResource() {
+        String etag = RestAssured.when().get("/index.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Type", "text/html;charset=UTF-8")
+                .header("Transfer-Encoding", nullValue())
+                .header("Content-Length", notNullValue())
+                .header("Vary", "accept-encoding")
+                .body(containsString("This is the title of the webpage!"))
+                .extract().header("ETag");
+
+        RestAssured.given().header("If-None-Match", etag)
+                .get("/")
+                .then()
+                .statusCode(304)
+                .header("ETag", is(etag));
+    }
+
+    @Test
+    public void shouldNotSendPrecompressedResourceForRange() {
+        RestAssured.given().header("Range", "bytes=0-9")
+                .get("/index.html")
+                .then()
+                .statusCode(206)
+                .header("ETag", nullValue());
+    }
+
+    @Test
+    public void shouldNotPrecompressSVG() {
+        RestAssured.when().get("/image.svg")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("ETag", nullValue());
+    }
+
+}
@@ -10,7 +10,9 @@ public class StaticResourcesTest extends AbstractStaticResourcesTest {
     @RegisterExtension
     final static QuarkusExtensionTest test = new QuarkusExtensionTest()
             .withApplicationRoot((jar) -> jar
-                    .add(new StringAsset("quarkus.http.enable-compression=true\n"),
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            // Compressing the static resources on the fly is tested here, see PrecompressedStaticResourcesTest
+                            + "quarkus.http.precompress-static-resources=false\n"),
                             "application.properties")
                     .addAsResource("static-file.html", "META-INF/resources/dir/file.txt")
                     .addAsResource("static-file.html", "META-INF/resources/l'équipe.pdf")
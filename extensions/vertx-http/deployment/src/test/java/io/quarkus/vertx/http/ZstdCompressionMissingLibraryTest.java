@@ -0,0 +1,61 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.logging.LogRecord;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Router;
+
+/**
+ * zstd-jni is not on the classpath of this test, so the zstd compressor is ignored.
+ */
+public class ZstdCompressionMissingLibraryTest {
+
+    private static final String APP_PROPS = ""
+            + "quarkus.http.enable-compression=true\n"
+            + "quarkus.http.compressors=zstd,gzip\n";
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(BeanRegisteringRoute.class))
+            .setLogRecordPredicate(r -> r.getLoggerName().contains("HttpServerOptionsUtils"))
+            .assertLogRecords(ZstdCompressionMissingLibraryTest::assertLogRecords);
+
+    @Test
+    public void testFallbackToGzip() {
+        given().get("/compress").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .body(equalTo(CompressionTest.TEXT));
+    }
+
+    private static void assertLogRecords(List<LogRecord> records) {
+        assertTrue(records.stream()
+                .anyMatch(r -> r.getMessage().contains("The zstd compressor is ignored because zstd-jni is not available")));
+    }
+
+    @ApplicationScoped
+    static class BeanRegisteringRoute {
+
+        public void register(@Observes Router router) {
+            router.route("/compress").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end(CompressionTest.TEXT);
+            });
+        }
+    }
+}
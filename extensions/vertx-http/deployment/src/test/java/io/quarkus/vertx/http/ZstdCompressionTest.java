@@ -0,0 +1,83 @@
+package io.quarkus.vertx.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.luben.zstd.ZstdInputStream;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Router;
+
+/**
+ * Runs in a dedicated surefire execution, the other tests do not have zstd-jni on the classpath.
+ */
+public class ZstdCompressionTest {
+
+    private static final String APP_PROPS = ""
+            + "quarkus.http.enable-compression=true\n"
+            + "quarkus.http.compressors=zstd,gzip\n"
+            + "quarkus.http.zstd-compression-level=5\n";
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(BeanRegisteringRoute.class));
+
+    @TestHTTPResource("/compress")
+    URL url;
+
+    @Test
+    public void testZstd() throws Exception {
+        HttpResponse<byte[]> response = send("zstd");
+        assertEquals(200, response.statusCode());
+        assertEquals("zstd", response.headers().firstValue("content-encoding").orElse(null));
+        assertTrue(response.body().length < CompressionTest.TEXT.length());
+        try (InputStream in = new ZstdInputStream(new ByteArrayInputStream(response.body()))) {
+            assertEquals(CompressionTest.TEXT, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testGzipWhenZstdNotAccepted() throws Exception {
+        HttpResponse<byte[]> response = send("gzip");
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("content-encoding").orElse(null));
+    }
+
+    private HttpResponse<byte[]> send(String acceptEncoding) throws Exception {
+        // RestAssured ignores the Accept-Encoding header and cannot decode zstd
+        return HttpClient.newHttpClient().send(HttpRequest.newBuilder(URI.create(url.toString()))
+                .header("Accept-Encoding", acceptEncoding)
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    @ApplicationScoped
+    static class BeanRegisteringRoute {
+
+        public void register(@Observes Router router) {
+            router.route("/compress").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end(CompressionTest.TEXT);
+            });
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.vertx.http.runtime;
 
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 
 import io.smallrye.config.WithDefault;
@@ -89,6 +90,16 @@ public interface AccessLogConfig {
     @WithDefault("true")
     boolean rotate();
 
+    /**
+     * The maximum number of access log messages waiting to be written to the log file.
+     * <p>
+     * When the log file cannot be written fast enough, the messages exceeding this limit are discarded and a warning is
+     * logged, instead of letting the queue grow without bounds. By default, the number of pending messages is not limited.
+     * <p>
+     * This only applies when logging to a file.
+     */
+    OptionalInt maxPendingMessages();
+
     /**
      * If rerouted requests should be consolidated into one log entry
      */
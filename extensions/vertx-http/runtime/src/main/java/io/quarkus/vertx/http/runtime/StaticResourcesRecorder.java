@@ -5,6 +5,7 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -12,7 +13,11 @@
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.MimeMapping;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.FileSystemAccess;
@@ -23,6 +28,13 @@ public class StaticResourcesRecorder {
 
     public static final String META_INF_RESOURCES = "META-INF/resources";
 
+    /**
+     * The suffix of the static resources compressed with gzip at build time.
+     */
+    public static final String GZIP_SUFFIX = ".gz";
+
+    private static final String GZIP = "gzip";
+
     private static volatile List<Path> hotDeploymentResourcePaths;
 
     private final VertxHttpBuildTimeConfig httpBuildTimeConfig;
@@ -39,7 +51,11 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    /**
+     * @param knownPaths the static resources found in {@code META-INF/resources}
+     * @param precompressedEtags the entity tags of the resources compressed with gzip at build time, keyed by path
+     */
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, String> precompressedEtags) {
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
         Set<String> compressMediaTypes;
         if (httpBuildTimeConfig.enableCompression() && httpBuildTimeConfig.compressMediaTypes().isPresent()) {
@@ -108,6 +124,15 @@ public void handle(RoutingContext ctx) {
                     }
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
+                        if (!precompressedEtags.isEmpty()) {
+                            String resource = rel.endsWith("/") ? rel.concat(indexPage) : rel;
+                            String etag = precompressedEtags.get(resource);
+                            if (etag != null && canSendPrecompressed(ctx.request())) {
+                                Thread.currentThread().setContextClassLoader(currentCl);
+                                sendPrecompressed(ctx, config, resource, etag);
+                                return;
+                            }
+                        }
                         compressIfNeeded(httpBuildTimeConfig, compressMediaTypes, ctx, rel);
                         staticHandler.handle(ctx);
                     } else {
@@ -135,4 +160,63 @@ public void accept(Route route) {
         };
     }
 
+    /**
+     * Range requests and other methods than {@code GET} are left to the {@link StaticHandler}, which serves the original
+     * resource.
+     */
+    static boolean canSendPrecompressed(HttpServerRequest request) {
+        if (!HttpMethod.GET.equals(request.method()) || request.headers().contains(HttpHeaders.RANGE)) {
+            return false;
+        }
+        String acceptEncoding = request.headers().get(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            int paramIndex = coding.indexOf(';');
+            String name = (paramIndex > -1 ? coding.substring(0, paramIndex) : coding).trim();
+            if (GZIP.equalsIgnoreCase(name)) {
+                // "gzip;q=0" means that the client does not accept gzip
+                return paramIndex == -1 || !isZeroQuality(coding.substring(paramIndex + 1));
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String params) {
+        for (String param : params.split(";")) {
+            param = param.trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) == 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void sendPrecompressed(RoutingContext ctx, StaticResourcesConfig config, String resource, String etag) {
+        MultiMap headers = ctx.response().headers();
+        String contentType = MimeMapping.mimeTypeForFilename(resource);
+        // Consistent with the StaticHandler, which uses UTF-8 as the default content encoding
+        headers.set(HttpHeaders.CONTENT_TYPE, contentType.startsWith("text") ? contentType + ";charset=UTF-8" : contentType);
+        // The header also prevents the HTTP server from compressing the response again
+        headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+        headers.set(HttpHeaders.ETAG, etag);
+        if (config.sendVaryHeader()) {
+            headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (config.cachingEnabled()) {
+            headers.set(HttpHeaders.CACHE_CONTROL, "public, immutable, max-age=" + config.maxAge().toSeconds());
+        }
+        if (etag.equals(ctx.request().headers().get(HttpHeaders.IF_NONE_MATCH))) {
+            ctx.response().setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return;
+        }
+        // Classpath resources are extracted to the Vert.x file cache, so that the file can be sent without copying
+        ctx.response().sendFile(META_INF_RESOURCES + resource + GZIP_SUFFIX).onFailure(ctx::fail);
+    }
+
 }
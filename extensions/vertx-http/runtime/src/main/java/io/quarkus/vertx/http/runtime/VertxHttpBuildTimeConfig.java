@@ -99,6 +99,9 @@ public interface VertxHttpBuildTimeConfig {
      * Server chooses the compression algorithm based on the client's capabilities and
      * marks it in a response header, e.g.:
      * content-encoding: gzip
+     * <p>
+     * If user adds zstd, then Zstandard will be added to the list of supported compression algorithms.
+     * It requires the {@code com.github.luben:zstd-jni} dependency, otherwise the zstd compressor is ignored.
      *
      */
     @WithDefault("gzip,deflate")
@@ -113,9 +116,29 @@ public interface VertxHttpBuildTimeConfig {
 
     /**
      * The compression level used when compression support is enabled.
+     * <p>
+     * This applies to the gzip and deflate compressors.
      */
     OptionalInt compressionLevel();
 
+    /**
+     * The compression level used by the zstd compressor, see {@link #compressors}.
+     * <p>
+     * If not set, the default zstd level is used.
+     */
+    OptionalInt zstdCompressionLevel();
+
+    /**
+     * If enabled, and compression is enabled, the static resources from {@code META-INF/resources} whose media type is
+     * listed in {@link #compressMediaTypes} are compressed with gzip at build time.
+     * The compressed file is then sent as is to the clients that accept the gzip encoding, instead of compressing
+     * the resource again for each request.
+     * <p>
+     * This does not apply to the development mode, where the static resources can be modified at any time.
+     */
+    @WithDefault("true")
+    boolean precompressStaticResources();
+
     /**
      * Configure Quarkus to serve static files from a local filesystem directory (outside of Java resources)
      *
@@ -532,8 +532,14 @@ public void handle(RoutingContext routingContext) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile()) {
                 File outputDir = accessLog.logDirectory().isPresent() ? new File(accessLog.logDirectory().get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(), accessLog.logSuffix(),
-                        accessLog.rotate());
+                receiver = DefaultAccessLogReceiver.builder()
+                        .setLogWriteExecutor(executor)
+                        .setOutputDirectory(outputDir.toPath())
+                        .setLogBaseName(accessLog.baseFileName())
+                        .setLogNameSuffix(accessLog.logSuffix())
+                        .setRotate(accessLog.rotate())
+                        .setMaxPendingMessages(accessLog.maxPendingMessages().orElse(0))
+                        .build();
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category());
             }
@@ -18,27 +18,32 @@
 
 package io.quarkus.vertx.http.runtime.filters.accesslog;
 
-import java.io.BufferedWriter;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.Deque;
-import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.Queue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 import org.jboss.logging.Logger;
 
+import io.netty.util.internal.PlatformDependent;
+
 /**
  * Log Receiver that stores logs in a directory under the specified file name, and rotates them after
  * midnight.
@@ -46,6 +51,11 @@
  * Web threads do not touch the log file, but simply queue messages to be written later by a worker thread.
  * A lightweight CAS based locking mechanism is used to ensure than only 1 thread is active writing messages at
  * any given time
+ * <p/>
+ * The messages are queued in a lock-free multi-producer single-consumer queue, which does not allocate a node per
+ * message. If a maximum number of pending messages is set, the messages that do not fit in the queue are discarded,
+ * so that a slow disk never blocks the web threads nor exhausts the heap.
+ * The worker thread encodes a batch of messages into a reusable buffer and writes the whole batch at once.
  *
  * @author Stuart Douglas
  */
@@ -57,9 +67,32 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
 
     private static final String DOT = ".";
 
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * The maximum number of messages written at once.
+     */
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final Executor logWriteExecutor;
 
-    private final Deque<String> pendingMessages;
+    private final Queue<String> pendingMessages;
+
+    private final int maxPendingMessages;
+
+    @SuppressWarnings("unused")
+    private volatile int pendingCount = 0;
+
+    private static final AtomicIntegerFieldUpdater<DefaultAccessLogReceiver> pendingCountUpdater = AtomicIntegerFieldUpdater
+            .newUpdater(DefaultAccessLogReceiver.class, "pendingCount");
+
+    @SuppressWarnings("unused")
+    private volatile long discardedCount = 0;
+
+    private static final AtomicLongFieldUpdater<DefaultAccessLogReceiver> discardedCountUpdater = AtomicLongFieldUpdater
+            .newUpdater(DefaultAccessLogReceiver.class, "discardedCount");
 
     //0 = not running
     //1 = queued
@@ -80,7 +113,12 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
     private final String logBaseName;
     private final String logNameSuffix; // always starts with a '.' character
 
-    private BufferedWriter writer = null;
+    private FileChannel writer = null;
+    // only accessed by the thread that holds the state
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
 
     private volatile boolean closed = false;
     private boolean initialRun = true;
@@ -112,18 +150,19 @@ public DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outp
 
     public DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
             final String logNameSuffix, boolean rotate) {
-        this(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate, null);
+        this(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate, null, 0);
     }
 
     private DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
-            final String logNameSuffix, boolean rotate, LogFileHeaderGenerator fileHeader) {
+            final String logNameSuffix, boolean rotate, LogFileHeaderGenerator fileHeader, int maxPendingMessages) {
         this.logWriteExecutor = logWriteExecutor;
         this.outputDirectory = outputDirectory;
         this.logBaseName = effectiveLogBaseName(logBaseName);
         this.rotate = rotate;
         this.fileHeaderGenerator = fileHeader;
         this.logNameSuffix = effectiveLogNameSuffix(logNameSuffix);
-        this.pendingMessages = new ConcurrentLinkedDeque<>();
+        this.pendingMessages = PlatformDependent.newMpscQueue();
+        this.maxPendingMessages = maxPendingMessages;
         this.defaultLogFile = outputDirectory.resolve(this.logBaseName + this.logNameSuffix);
         calculateChangeOverPoint();
     }
@@ -169,6 +208,13 @@ private void calculateChangeOverPoint() {
 
     @Override
     public void logMessage(final String message) {
+        if (maxPendingMessages > 0) {
+            if (pendingCountUpdater.incrementAndGet(this) > maxPendingMessages) {
+                pendingCountUpdater.decrementAndGet(this);
+                discardedCountUpdater.incrementAndGet(this);
+                return;
+            }
+        }
         this.pendingMessages.add(message);
         int state = stateUpdater.get(this);
         if (state == 0) {
@@ -204,19 +250,14 @@ public void run() {
             }
         }
         initialRun = false;
-        List<String> messages = new ArrayList<>();
-        String msg;
-        //only grab at most 1000 messages at a time
-        for (int i = 0; i < 1000; ++i) {
-            msg = pendingMessages.poll();
-            if (msg == null) {
-                break;
-            }
-            messages.add(msg);
+        long discarded = discardedCountUpdater.getAndSet(this, 0);
+        if (discarded > 0) {
+            log.warnf("%d access log messages were discarded because there were more than %d pending messages",
+                    discarded, maxPendingMessages);
         }
         try {
-            if (!messages.isEmpty()) {
-                writeMessage(messages);
+            if (!pendingMessages.isEmpty()) {
+                writeMessages();
             }
         } finally {
             stateUpdater.set(this, 0);
@@ -229,7 +270,6 @@ public void run() {
             } else if (closed) {
                 try {
                     if (writer != null) {
-                        writer.flush();
                         writer.close();
                         writer = null;
                     }
@@ -255,34 +295,76 @@ void awaitWrittenForTest() throws InterruptedException {
         }
     }
 
-    private void writeMessage(final List<String> messages) {
+    private void writeMessages() {
         if (System.currentTimeMillis() > changeOverPoint) {
             doRotate();
         }
+        int written = 0;
         try {
             if (writer == null) {
-                boolean created = !Files.exists(defaultLogFile);
-                writer = Files.newBufferedWriter(defaultLogFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND,
-                        StandardOpenOption.CREATE);
-                if (Files.size(defaultLogFile) == 0 && fileHeaderGenerator != null) {
+                writer = FileChannel.open(defaultLogFile, StandardOpenOption.APPEND, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE);
+                if (writer.size() == 0 && fileHeaderGenerator != null) {
                     String header = fileHeaderGenerator.generateHeader();
                     if (header != null) {
-                        writer.write(header);
-                        writer.newLine();
-                        writer.flush();
+                        encode(header);
                     }
                 }
             }
-            for (String message : messages) {
-                writer.write(message);
-                writer.newLine();
+            //only grab at most 1000 messages at a time
+            String message;
+            while (written < MAX_BATCH_SIZE && (message = pendingMessages.poll()) != null) {
+                written++;
+                encode(message);
             }
-            writer.flush();
+            flushBuffer();
         } catch (IOException e) {
+            buffer.clear();
+            // drop the rest of the batch, otherwise a log file that cannot be opened would keep the messages queued and
+            // the writer would be rescheduled immediately, again and again
+            while (written < MAX_BATCH_SIZE && pendingMessages.poll() != null) {
+                written++;
+            }
             log.error("Error writing access log", e);
+        } finally {
+            if (maxPendingMessages > 0 && written > 0) {
+                pendingCountUpdater.addAndGet(this, -written);
+            }
         }
     }
 
+    /**
+     * Encodes the message followed by a line separator into the buffer, and writes the buffer to the file whenever it is
+     * full.
+     */
+    private void encode(String message) throws IOException {
+        CharBuffer chars = CharBuffer.wrap(message);
+        encoder.reset();
+        for (;;) {
+            CoderResult result = encoder.encode(chars, buffer, true);
+            if (result.isOverflow()) {
+                flushBuffer();
+            } else {
+                break;
+            }
+        }
+        while (encoder.flush(buffer).isOverflow()) {
+            flushBuffer();
+        }
+        if (buffer.remaining() < LINE_SEPARATOR.length) {
+            flushBuffer();
+        }
+        buffer.put(LINE_SEPARATOR);
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            writer.write(buffer);
+        }
+        buffer.clear();
+    }
+
     private void doRotate() {
         forceLogRotation = false;
         if (!rotate) {
@@ -290,7 +372,6 @@ private void doRotate() {
         }
         try {
             if (writer != null) {
-                writer.flush();
                 writer.close();
                 writer = null;
             }
@@ -341,6 +422,7 @@ public static class Builder {
         private String logNameSuffix;
         private boolean rotate;
         private LogFileHeaderGenerator logFileHeaderGenerator;
+        private int maxPendingMessages;
 
         public Executor getLogWriteExecutor() {
             return logWriteExecutor;
@@ -396,9 +478,22 @@ public Builder setLogFileHeaderGenerator(LogFileHeaderGenerator logFileHeaderGen
             return this;
         }
 
+        public int getMaxPendingMessages() {
+            return maxPendingMessages;
+        }
+
+        /**
+         * @param maxPendingMessages the maximum number of messages waiting to be written, further messages are discarded;
+         *        {@code 0} means unlimited
+         */
+        public Builder setMaxPendingMessages(int maxPendingMessages) {
+            this.maxPendingMessages = maxPendingMessages;
+            return this;
+        }
+
         public DefaultAccessLogReceiver build() {
             return new DefaultAccessLogReceiver(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate,
-                    logFileHeaderGenerator);
+                    logFileHeaderGenerator, maxPendingMessages);
         }
     }
 }
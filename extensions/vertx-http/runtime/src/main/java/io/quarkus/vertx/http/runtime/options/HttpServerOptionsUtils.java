@@ -21,6 +21,8 @@
 
 import org.jboss.logging.Logger;
 
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.Zstd;
 import io.netty.handler.logging.ByteBufFormat;
 import io.quarkus.credentials.CredentialsProvider;
 import io.quarkus.credentials.runtime.CredentialsProviderFinder;
@@ -75,6 +77,13 @@ public class HttpServerOptionsUtils {
      */
     public static final int RANDOM_PORT_MANAGEMENT = 30;
 
+    /**
+     * The zstd block size and maximum encode size, used when the zstd compression level is set; these are the Netty
+     * defaults.
+     */
+    private static final int ZSTD_BLOCK_SIZE = 1 << 16;
+    private static final int ZSTD_MAX_ENCODE_SIZE = 1 << 25;
+
     /**
      * Holds the result of building server configuration: an {@link HttpServerConfig}, optional {@link ServerSSLOptions},
      * and optional {@link SSLEngineOptions} for selecting the SSL engine.
@@ -457,7 +466,8 @@ public static void applyCommonOptionsForManagementInterface(
         // Compression
         applyCompressionConfig(config, managementBuildTimeConfig.enableCompression(),
                 managementBuildTimeConfig.enableDecompression(), Optional.empty(),
-                managementBuildTimeConfig.compressionLevel(), managementConfig.compressionContentSizeThreshold());
+                managementBuildTimeConfig.compressionLevel(), OptionalInt.empty(),
+                managementConfig.compressionContentSizeThreshold());
 
         // Logging
         if (managementConfig.logActivity()) {
@@ -628,12 +638,12 @@ private static void applyCompressionConfig(HttpServerConfig config, VertxHttpBui
             int contentSizeThreshold) {
         applyCompressionConfig(config, httpBuildTimeConfig.enableCompression(),
                 httpBuildTimeConfig.enableDecompression(), httpBuildTimeConfig.compressors(),
-                httpBuildTimeConfig.compressionLevel(), contentSizeThreshold);
+                httpBuildTimeConfig.compressionLevel(), httpBuildTimeConfig.zstdCompressionLevel(), contentSizeThreshold);
     }
 
     private static void applyCompressionConfig(HttpServerConfig config, boolean enableCompression,
             boolean enableDecompression, Optional<List<String>> compressors, OptionalInt compressionLevel,
-            int contentSizeThreshold) {
+            OptionalInt zstdCompressionLevel, int contentSizeThreshold) {
         CompressionConfig compression = new CompressionConfig();
         compression.setCompressionEnabled(enableCompression);
         compression.setDecompressionEnabled(enableDecompression);
@@ -659,6 +669,16 @@ private static void applyCompressionConfig(HttpServerConfig config, boolean enab
                     //                    } else {
                     compression.addBrotli();
                     //                    }
+                } else if ("zstd".equalsIgnoreCase(compressor)) {
+                    if (!Zstd.isAvailable()) {
+                        LOGGER.warn("The zstd compressor is ignored because zstd-jni is not available,"
+                                + " add the com.github.luben:zstd-jni dependency", Zstd.cause());
+                    } else if (zstdCompressionLevel.isPresent()) {
+                        compression.addCompressor(StandardCompressionOptions.zstd(zstdCompressionLevel.getAsInt(),
+                                ZSTD_BLOCK_SIZE, ZSTD_MAX_ENCODE_SIZE));
+                    } else {
+                        compression.addCompressor(StandardCompressionOptions.zstd());
+                    }
                 } else if ("snappy".equalsIgnoreCase(compressor)) {
                     compression.addSnappy();
                 } else {
@@ -5,6 +5,8 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
@@ -41,6 +43,57 @@ void testBaseFileNameWithTrailingDotAndSuffixWithLeadingDot() throws IOException
         validateLogFileNames(logBaseName, ".suffix");
     }
 
+    @Test
+    void testMaxPendingMessages() throws IOException {
+        List<Runnable> tasks = new ArrayList<>();
+        try (DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                .setLogWriteExecutor(tasks::add)
+                .setOutputDirectory(tempDir)
+                .setLogBaseName("test-max-pending-messages")
+                .setMaxPendingMessages(3)
+                .build()) {
+            for (int i = 1; i <= 5; i++) {
+                receiver.logMessage("Message " + i);
+            }
+            // the writer is scheduled only once
+            assertThat(tasks).hasSize(1);
+            tasks.remove(0).run();
+            receiver.logMessage("Message \u00e9");
+            tasks.remove(0).run();
+
+            assertThat(Files.readAllLines(tempDir.resolve("test-max-pending-messages.log")))
+                    .containsExactly("Message 1", "Message 2", "Message 3", "Message \u00e9");
+        }
+    }
+
+    @Test
+    void testUnwritableOutputDirectory() throws IOException {
+        Path file = Files.createFile(tempDir.resolve("not-a-directory"));
+        List<Runnable> tasks = new ArrayList<>();
+        try (DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                .setLogWriteExecutor(tasks::add)
+                .setOutputDirectory(file.resolve("logs"))
+                .setLogBaseName("test-unwritable-output-directory")
+                .setMaxPendingMessages(3)
+                .build()) {
+            for (int i = 1; i <= 3; i++) {
+                receiver.logMessage("Message " + i);
+            }
+            assertThat(tasks).hasSize(1);
+            tasks.remove(0).run();
+            // the messages that could not be written are dropped and the writer is not rescheduled
+            assertThat(tasks).isEmpty();
+
+            // the dropped messages do not count as pending
+            for (int i = 4; i <= 6; i++) {
+                receiver.logMessage("Message " + i);
+            }
+            assertThat(tasks).hasSize(1);
+            tasks.remove(0).run();
+            assertThat(tasks).isEmpty();
+        }
+    }
+
     private void validateLogFileNames(String logBaseName, String logNameSuffix) throws IOException {
         String normalizedLogBaseName = logBaseName.endsWith(".") ? logBaseName.substring(0, logBaseName.length() - 1)
                 : logBaseName;
@@ -24,6 +24,6 @@ public void write(byte[] b, int off, int len) throws IOException {
 
     @Override
     public void write(int b) throws IOException {
-        buffer.appendInt(b);
+        buffer.appendByte((byte) b);
     }
 }
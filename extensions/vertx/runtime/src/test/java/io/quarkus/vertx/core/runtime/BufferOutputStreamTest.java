@@ -0,0 +1,34 @@
+package io.quarkus.vertx.core.runtime;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.buffer.Buffer;
+
+public class BufferOutputStreamTest {
+
+    @Test
+    public void testWriteByte() throws IOException {
+        Buffer buffer = Buffer.buffer();
+        try (BufferOutputStream out = new BufferOutputStream(buffer)) {
+            out.write('a');
+            // only the low-order byte is written
+            out.write(0x162);
+            out.write(-1);
+        }
+        Assertions.assertEquals(3, buffer.length());
+        Assertions.assertArrayEquals(new byte[] { 'a', 'b', (byte) 0xff }, buffer.getBytes());
+    }
+
+    @Test
+    public void testWriteArray() throws IOException {
+        Buffer buffer = Buffer.buffer();
+        try (BufferOutputStream out = new BufferOutputStream(buffer)) {
+            out.write(new byte[] { 'x', 'a', 'b', 'y' }, 1, 2);
+            out.write('c');
+        }
+        Assertions.assertEquals("abc", buffer.toString());
+    }
+}
@@ -0,0 +1,67 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.restassured.RestAssured;
+import io.vertx.core.Vertx;
+
+abstract class AbstractBroadcastSlowConsumerTest {
+
+    static final String APP_PROPS = """
+            quarkus.websockets-next.server.metrics.enabled=true
+            quarkus.websockets-next.server.broadcast.slow-consumer-strategy=%s
+            """;
+
+    @Inject
+    Vertx vertx;
+
+    @TestHTTPResource("flood/slow")
+    URI slowUri;
+
+    @TestHTTPResource("flood/fast")
+    URI fastUri;
+
+    @AfterEach
+    void resetFlood() {
+        Flood.stop = true;
+    }
+
+    /**
+     * Connects a client that does not read the messages, floods it with broadcast messages until the slow consumer
+     * metric is incremented and returns the server side connection of the slow client.
+     */
+    WebSocketConnection floodSlowConsumer(WSClient slow, WSClient fast, String strategy) {
+        slow.connect(slowUri);
+        // Stop reading, the server write queue fills up once the TCP buffers are full
+        slow.socket().pause();
+        fast.connect(fastUri);
+        fast.sendAndAwait("flood");
+        Awaitility.await().atMost(Duration.ofSeconds(20))
+                .untilAsserted(() -> assertTrue(slowConsumers(strategy) >= 1, "No slow consumer detected"));
+        Flood.stop = true;
+        return Flood.CONNECTIONS.get("slow");
+    }
+
+    static double slowConsumers(String strategy) {
+        String metrics = RestAssured.given().get("/q/metrics").then().statusCode(200).extract().asString();
+        Matcher matcher = Pattern
+                .compile("quarkus_websockets_server_broadcast_slow_consumers_total\\{[^}]*strategy=\"" + strategy
+                        + "\"[^}]*} ([0-9.E]+)")
+                .matcher(metrics);
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : 0;
+    }
+
+}
@@ -0,0 +1,46 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.vertx.core.Vertx;
+
+public class BroadcastEncodeOnceTest {
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Notify.class, Notification.class, CountingNotificationCodec.class, WSClient.class);
+            });
+
+    @TestHTTPResource("notify")
+    URI notifyUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testMessageEncodedOnce() {
+        try (WSClient client1 = WSClient.create(vertx).connect(notifyUri);
+                WSClient client2 = WSClient.create(vertx).connect(notifyUri);
+                WSClient client3 = WSClient.create(vertx).connect(notifyUri)) {
+            client1.sendAndAwait("foo");
+            for (WSClient client : new WSClient[] { client1, client2, client3 }) {
+                client.waitForMessages(1);
+                assertEquals("notification:foo", client.getLastMessage().toString());
+            }
+            // The message is encoded once for all the connections
+            assertEquals(1, CountingNotificationCodec.ENCODED.get());
+        }
+    }
+
+}
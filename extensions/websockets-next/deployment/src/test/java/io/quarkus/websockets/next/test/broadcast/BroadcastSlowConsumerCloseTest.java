@@ -0,0 +1,45 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.awaitility.Awaitility;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.builder.Version;
+import io.quarkus.maven.dependency.Dependency;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.test.utils.WSClient;
+
+public class BroadcastSlowConsumerCloseTest extends AbstractBroadcastSlowConsumerTest {
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> root
+                    .addClasses(Flood.class, WSClient.class, AbstractBroadcastSlowConsumerTest.class)
+                    .addAsResource(new StringAsset(APP_PROPS.formatted("close")), "application.properties"))
+            .setForcedDependencies(
+                    List.of(Dependency.of("io.quarkus", "quarkus-micrometer-registry-prometheus-deployment",
+                            Version.getVersion())));
+
+    @Test
+    public void testClose() {
+        try (WSClient slow = WSClient.create(vertx); WSClient fast = WSClient.create(vertx)) {
+            WebSocketConnection slowConnection = floodSlowConsumer(slow, fast, "close");
+            // The close frame cannot be written, the connection is closed after the WebSocket closing timeout
+            Awaitility.await().atMost(Duration.ofSeconds(20))
+                    .untilAsserted(() -> assertFalse(slowConnection.isOpen(), "Slow connection was not closed"));
+            // The fast connection is not a broadcast target
+            assertTrue(Flood.CONNECTIONS.get("fast").isOpen());
+            assertEquals(0, slowConsumers("drop"));
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.builder.Version;
+import io.quarkus.maven.dependency.Dependency;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.test.utils.WSClient;
+
+public class BroadcastSlowConsumerDropTest extends AbstractBroadcastSlowConsumerTest {
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> root
+                    .addClasses(Flood.class, WSClient.class, AbstractBroadcastSlowConsumerTest.class)
+                    .addAsResource(new StringAsset(APP_PROPS.formatted("drop")), "application.properties"))
+            .setForcedDependencies(
+                    List.of(Dependency.of("io.quarkus", "quarkus-micrometer-registry-prometheus-deployment",
+                            Version.getVersion())));
+
+    @Test
+    public void testDrop() {
+        try (WSClient slow = WSClient.create(vertx); WSClient fast = WSClient.create(vertx)) {
+            WebSocketConnection slowConnection = floodSlowConsumer(slow, fast, "drop");
+            // The messages are dropped but the slow connection is kept open
+            assertTrue(slowConnection.isOpen());
+            assertEquals(0, slowConsumers("close"));
+        }
+    }
+
+}
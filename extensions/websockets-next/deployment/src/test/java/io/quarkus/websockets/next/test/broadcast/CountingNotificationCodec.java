@@ -0,0 +1,33 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+
+import io.quarkus.websockets.next.TextMessageCodec;
+
+@Singleton
+@Priority(10)
+public class CountingNotificationCodec implements TextMessageCodec<Notification> {
+
+    static final AtomicInteger ENCODED = new AtomicInteger();
+
+    @Override
+    public boolean supports(Type type) {
+        return type.equals(Notification.class);
+    }
+
+    @Override
+    public String encode(Notification value) {
+        ENCODED.incrementAndGet();
+        return "notification:" + value.name();
+    }
+
+    @Override
+    public Notification decode(Type type, String value) {
+        throw new UnsupportedOperationException();
+    }
+
+}
@@ -0,0 +1,41 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.quarkus.websockets.next.OnOpen;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+
+@WebSocket(path = "/flood/{client}")
+public class Flood {
+
+    static final Map<String, WebSocketConnection> CONNECTIONS = new ConcurrentHashMap<>();
+
+    static volatile boolean stop;
+
+    // Below the default max frame size, so that each message is a single frame
+    private static final String PAYLOAD = "x".repeat(60_000);
+
+    @OnOpen
+    void open(WebSocketConnection connection) {
+        CONNECTIONS.put(connection.pathParam("client"), connection);
+    }
+
+    @OnTextMessage
+    void flood(String message, WebSocketConnection connection) throws InterruptedException {
+        // Send the messages to the other connections until the test stops the flood
+        // The sends are not awaited because a write to a client that does not read never completes
+        for (int i = 0; i < 10_000 && !stop; i++) {
+            connection.broadcast()
+                    .filter(c -> !connection.id().equals(c.id()))
+                    .sendText(PAYLOAD)
+                    .subscribe().with(ignored -> {
+                    }, ignored -> {
+                    });
+            Thread.sleep(1);
+        }
+    }
+
+}
@@ -0,0 +1,5 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+public record Notification(String name) {
+
+}
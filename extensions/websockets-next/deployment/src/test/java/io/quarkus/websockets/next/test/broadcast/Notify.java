@@ -0,0 +1,15 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+
+@WebSocket(path = "/notify")
+public class Notify {
+
+    @OnTextMessage
+    void notify(String name, WebSocketConnection connection) {
+        connection.broadcast().sendTextAndAwait(new Notification(name));
+    }
+
+}
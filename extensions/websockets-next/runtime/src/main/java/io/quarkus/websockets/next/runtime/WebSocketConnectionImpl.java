@@ -12,9 +12,14 @@
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import org.jboss.logging.Logger;
+
+import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
+import io.quarkus.websockets.next.CloseReason;
 import io.quarkus.websockets.next.HandshakeRequest;
 import io.quarkus.websockets.next.UserData;
 import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.runtime.config.SlowConsumerStrategy;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.buffer.Buffer;
@@ -24,6 +29,11 @@
 
 class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSocketConnection {
 
+    private static final Logger LOG = Logger.getLogger(WebSocketConnectionImpl.class);
+
+    private static final CloseReason SLOW_CONSUMER = new CloseReason(WebSocketCloseStatus.TRY_AGAIN_LATER.code(),
+            "Slow consumer");
+
     private final String generatedEndpointClass;
 
     private final String endpointId;
@@ -36,16 +46,20 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
 
     private final SecuritySupport securitySupport;
 
+    private final SlowConsumerStrategy slowConsumerStrategy;
+
     WebSocketConnectionImpl(String generatedEndpointClass, String endpointClass, ServerWebSocket webSocket,
             ConnectionManager connectionManager, Codecs codecs, RoutingContext ctx,
             TrafficLogger trafficLogger, UserData userData, SendingInterceptor sendingInterceptor,
-            Function<WebSocketConnectionImpl, SecuritySupport> securitySupportCreator) {
+            Function<WebSocketConnectionImpl, SecuritySupport> securitySupportCreator,
+            SlowConsumerStrategy slowConsumerStrategy) {
         super(Map.copyOf(ctx.pathParams()), codecs, new HandshakeRequestImpl(webSocket, ctx), trafficLogger,
                 userData, sendingInterceptor);
         this.generatedEndpointClass = generatedEndpointClass;
         this.endpointId = endpointClass;
         this.webSocket = Objects.requireNonNull(webSocket);
         this.connectionManager = Objects.requireNonNull(connectionManager);
+        this.slowConsumerStrategy = Objects.requireNonNull(slowConsumerStrategy);
         this.defaultBroadcast = new BroadcastImpl(null);
         this.securitySupport = securitySupportCreator.apply(this);
     }
@@ -187,12 +201,6 @@ public Uni<Void> apply(WebSocketConnection c, String s) {
                 return c.sendText(s);
             }
         };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
-            }
-        };
         private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
             @Override
             public Uni<Void> apply(WebSocketConnection c, Buffer b) {
@@ -218,7 +226,8 @@ public Uni<Void> sendText(String message) {
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            // Encode the message once, not for each connection
+            return doSend(SEND_TEXT_STR, encodeText(message));
         }
 
         @Override
@@ -245,6 +254,11 @@ private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendF
             for (WebSocketConnection connection : connections) {
                 if (connection.isOpen()
                         && (filter == null || filter.test(connection))) {
+                    if (slowConsumerStrategy != SlowConsumerStrategy.SEND
+                            && ((WebSocketConnectionBase) connection).webSocket().writeQueueFull()) {
+                        skipSlowConsumer((WebSocketConnectionBase) connection);
+                        continue;
+                    }
                     unis.add(sendFunction.apply(connection, message)
                             // Intentionally ignore 'WebSocket is closed' failures
                             // It might happen that the connection is closed in the mean time
@@ -258,6 +272,17 @@ private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendF
             return Uni.join().all(unis).andCollectFailures().replaceWithVoid();
         }
 
+        private void skipSlowConsumer(WebSocketConnectionBase connection) {
+            connection.slowConsumer(slowConsumerStrategy);
+            if (slowConsumerStrategy == SlowConsumerStrategy.CLOSE) {
+                LOG.debugf("Closing slow consumer connection: %s", connection);
+                connection.close(SLOW_CONSUMER).subscribe().with(ignored -> {
+                }, t -> LOG.debugf(t, "Unable to close slow consumer connection: %s", connection));
+            } else {
+                LOG.tracef("Broadcast message dropped for slow consumer connection: %s", connection);
+            }
+        }
+
     }
 
 }
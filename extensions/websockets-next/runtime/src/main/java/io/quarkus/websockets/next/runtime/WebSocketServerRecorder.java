@@ -146,7 +146,8 @@ public void handle(Throwable throwable) {
                             : telemetrySupport.getSendingInterceptor();
                     WebSocketConnectionImpl connection = new WebSocketConnectionImpl(generatedEndpointClass, endpointId, ws,
                             connectionManager, codecs, ctx, trafficLogger, userData, sendingInterceptor,
-                            getSecuritySupportCreator(container, ctx));
+                            getSecuritySupportCreator(container, ctx),
+                            runtimeConfig.getValue().broadcast().slowConsumerStrategy());
                     connectionManager.add(generatedEndpointClass, connection);
                     if (trafficLogger != null) {
                         trafficLogger.connectionOpened(connection);
@@ -0,0 +1,21 @@
+package io.quarkus.websockets.next.runtime.config;
+
+/**
+ * The strategy used when a broadcast message should be sent to a connection that does not keep up with the outbound
+ * messages, i.e. its write queue is full.
+ */
+public enum SlowConsumerStrategy {
+    /**
+     * Send the message anyway. The message is buffered until the connection can accept it.
+     */
+    SEND,
+    /**
+     * Do not send the message to the slow connection.
+     */
+    DROP,
+    /**
+     * Do not send the message and close the slow connection.
+     */
+    CLOSE;
+
+}
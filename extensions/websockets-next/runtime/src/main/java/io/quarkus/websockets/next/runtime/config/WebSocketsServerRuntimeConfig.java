@@ -71,6 +71,11 @@ public interface WebSocketsServerRuntimeConfig {
      */
     DevMode devMode();
 
+    /**
+     * Broadcast configuration.
+     */
+    Broadcast broadcast();
+
     /**
      * Traffic logging config.
      */
@@ -93,6 +98,18 @@ interface Security {
 
     }
 
+    interface Broadcast {
+
+        /**
+         * The strategy used when a broadcast message should be sent to a connection whose write queue is full.
+         * <p>
+         * By default, the message is sent anyway and buffered until the client reads it.
+         */
+        @WithDefault("send")
+        SlowConsumerStrategy slowConsumerStrategy();
+
+    }
+
     interface DevMode {
 
         /**
@@ -1,7 +1,9 @@
 package io.quarkus.websockets.next.runtime.telemetry;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 
+import io.quarkus.websockets.next.runtime.config.SlowConsumerStrategy;
 import io.quarkus.websockets.next.runtime.spi.telemetry.WebSocketMetricsInterceptorProducer.WebSocketMetricsInterceptor;
 import io.vertx.core.buffer.Buffer;
 
@@ -24,4 +26,9 @@ public void onSend(String text) {
     public void onSend(Buffer message) {
         interceptor.onMessageSent(message.getBytes(), path);
     }
+
+    @Override
+    public void onSlowConsumer(SlowConsumerStrategy strategy) {
+        interceptor.onSlowConsumer(path, strategy.name().toLowerCase(Locale.ROOT));
+    }
 }
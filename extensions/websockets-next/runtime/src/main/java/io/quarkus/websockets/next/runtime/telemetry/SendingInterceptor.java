@@ -1,5 +1,6 @@
 package io.quarkus.websockets.next.runtime.telemetry;
 
+import io.quarkus.websockets.next.runtime.config.SlowConsumerStrategy;
 import io.vertx.core.buffer.Buffer;
 
 /**
@@ -24,4 +25,12 @@ public sealed interface SendingInterceptor permits MetricsSendingInterceptor {
      */
     void onSend(Buffer binaryMessage);
 
+    /**
+     * Intercept broadcast messages that were not sent because the connection does not keep up with the outbound
+     * messages.
+     *
+     * @param strategy applied slow consumer strategy
+     */
+    void onSlowConsumer(SlowConsumerStrategy strategy);
+
 }
@@ -65,5 +65,15 @@ interface WebSocketMetricsInterceptor {
          */
         void onConnectionClosed(String route);
 
+        /**
+         * Called when a broadcast message is not sent to a server connection because the connection does not keep up
+         * with the outbound messages.
+         *
+         * @param route endpoint route
+         * @param strategy the slow consumer strategy that was applied, either {@code drop} or {@code close}
+         */
+        default void onSlowConsumer(String route, String strategy) {
+        }
+
     }
 }
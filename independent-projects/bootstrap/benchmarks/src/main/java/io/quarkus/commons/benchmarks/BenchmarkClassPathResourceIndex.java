@@ -0,0 +1,72 @@
+package io.quarkus.commons.benchmarks;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.bootstrap.classloading.ClassPathElement;
+import io.quarkus.bootstrap.classloading.ClassPathResourceIndex;
+import io.quarkus.bootstrap.classloading.MemoryClassPathElement;
+
+/**
+ * The index is built once per class loader, i.e. on each boot and each dev mode restart, so we measure a single shot
+ * with a number of jars similar to a real-life application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(2)
+public class BenchmarkClassPathResourceIndex {
+
+    @Param({ "300" })
+    public int jars;
+
+    @Param({ "300" })
+    public int resourcesPerJar;
+
+    private ClassPathElement[] elements;
+
+    @Setup
+    public void setup() {
+        elements = new ClassPathElement[jars];
+        byte[] empty = new byte[0];
+        for (int i = 0; i < jars; i++) {
+            Map<String, byte[]> resources = new HashMap<>();
+            for (int j = 0; j < resourcesPerJar; j++) {
+                resources.put("org/acme/lib" + i + "/pkg" + (j % 10) + "/Class" + j + ".class", empty);
+            }
+            resources.put("META-INF/services/org.acme.Service" + i, empty);
+            resources.put("META-INF/maven/org.acme/lib" + i + "/pom.properties", empty);
+            elements[i] = new MemoryClassPathElement(resources, true);
+        }
+    }
+
+    @Benchmark
+    public ClassPathResourceIndex build() {
+        ClassPathResourceIndex.Builder builder = ClassPathResourceIndex.builder();
+        for (ClassPathElement element : elements) {
+            builder.scanClassPathElement(element, builder::addResourceMapping);
+        }
+        return builder.build();
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkClassPathResourceIndex.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
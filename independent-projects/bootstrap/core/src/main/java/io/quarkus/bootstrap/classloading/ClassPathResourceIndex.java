@@ -204,6 +204,15 @@ public static class Builder {
         private final Set<String> parentFirstResources = new HashSet<>();
         private final Set<String> bannedResources = new HashSet<>();
 
+        /**
+         * The prefixes already mapped to the {@code ClassPathElement} being scanned.
+         * <p>
+         * Most resources of a given element share a prefix with other resources so we avoid looking up the mapping and
+         * checking the candidates for each of them.
+         */
+        private final Set<String> currentResourcePrefixes = new HashSet<>();
+        private ClassPathElement currentClassPathElement;
+
         public void scanClassPathElement(ClassPathElement classPathElement,
                 BiConsumer<ClassPathElement, String> consumer) {
             for (String resource : classPathElement.getProvidedResources()) {
@@ -228,6 +237,15 @@ public void addResourceMapping(ClassPathElement classPathElement, String resourc
 
             String resourcePrefix = getResourceKey(resource);
 
+            if (classPathElement != currentClassPathElement) {
+                currentClassPathElement = classPathElement;
+                currentResourcePrefixes.clear();
+            }
+            if (!currentResourcePrefixes.add(resourcePrefix)) {
+                // this prefix is already mapped to the ClassPathElement
+                return;
+            }
+
             List<ClassPathElement> classPathElements = resourceMapping.get(resourcePrefix);
             if (classPathElements == null) {
                 // default initial capacity of 10 is way too large
@@ -249,6 +267,9 @@ public void addBannedResource(String resource) {
         }
 
         public ClassPathResourceIndex build() {
+            currentClassPathElement = null;
+            currentResourcePrefixes.clear();
+
             Map<String, ClassPathElement[]> compactedResourceMapping = new HashMap<>(resourceMapping.size());
             for (Entry<String, List<ClassPathElement>> resourceMappingEntry : resourceMapping.entrySet()) {
                 compactedResourceMapping.put(resourceMappingEntry.getKey(),
@@ -1,6 +1,11 @@
 package io.quarkus.bootstrap.classloading;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,4 +26,28 @@ public void testGetResourceKey() {
         assertEquals("META-INF/versions/17/io/quarkus/core",
                 ClassPathResourceIndex.getResourceKey("META-INF/versions/17/io/quarkus/core/deployment"));
     }
+
+    @Test
+    public void testResourceMapping() {
+        MemoryClassPathElement first = new MemoryClassPathElement(Map.of(
+                "org/acme/foo/Foo.class", new byte[0],
+                "org/acme/foo/Bar.class", new byte[0],
+                "org/acme/foo/baz/Baz.class", new byte[0]), true);
+        MemoryClassPathElement second = new MemoryClassPathElement(Map.of(
+                "org/acme/foo/Qux.class", new byte[0],
+                "org/acme/foo/Bar.class", new byte[0]), true);
+
+        ClassPathResourceIndex.Builder builder = ClassPathResourceIndex.builder();
+        builder.scanClassPathElement(first, builder::addResourceMapping);
+        builder.scanClassPathElement(second, builder::addResourceMapping);
+        // scanning the same element again must not register it twice
+        builder.scanClassPathElement(first, builder::addResourceMapping);
+        ClassPathResourceIndex index = builder.build();
+
+        assertSame(first, index.getFirstClassPathElement("org/acme/foo/Foo.class"));
+        assertSame(first, index.getFirstClassPathElement("org/acme/foo/baz/Baz.class"));
+        assertSame(second, index.getFirstClassPathElement("org/acme/foo/Qux.class"));
+        assertEquals(List.of(first, second), index.getClassPathElements("org/acme/foo/Bar.class"));
+        assertNull(index.getFirstClassPathElement("org/acme/foo/Missing.class"));
+    }
 }
@@ -15,8 +15,18 @@ class CompletionStageSupport {
      */
     static final boolean UNRESTRICTED = Boolean.getBoolean(SYSTEM_PROPERTY);
 
-    @SuppressWarnings("unchecked")
     static CompletionStage<Object> toCompletionStage(Object result) {
+        CompletionStage<Object> stage = toCompletionStage(result, null);
+        return stage != null ? stage : CompletedStage.of(result);
+    }
+
+    /**
+     * @param result the result that may represent an asynchronous computation
+     * @param stage the completed stage of the result
+     * @return the given stage if the result itself does not represent an asynchronous computation
+     */
+    @SuppressWarnings("unchecked")
+    static CompletionStage<Object> toCompletionStage(Object result, CompletedStage<Object> stage) {
         // Note that we intentionally use "instanceof" to test interfaces as the last resort in order to mitigate the "type pollution"
         // See https://github.com/RedHatPerf/type-pollution-agent for more information
         if (result instanceof CompletableFuture) {
@@ -28,6 +38,6 @@ static CompletionStage<Object> toCompletionStage(Object result) {
         } else if (UNRESTRICTED && result instanceof CompletionStage) {
             return (CompletionStage<Object>) result;
         }
-        return CompletedStage.of(result);
+        return stage;
     }
 }
@@ -134,8 +134,16 @@ private CompletionStage<Object> resolveReference(boolean tryParent, Object ref,
             return resolve(evalContext, null, true, expression, true, partIndex);
         } else {
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
+            CompletionStage<Object> result = resolve(evalContext, null, true, expression, false, partIndex);
+            if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                // Synchronous result - continue without composing the stage
+                try {
+                    return resolveReference(false, completed.get(), parts, resolutionContext, expression, partIndex + 1);
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
         }
     }
 
@@ -146,7 +154,20 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             // Try the cached resolver first
             ValueResolver cached = evalContext.getCachedResolver();
             if (cached != null && cached.appliesTo(evalContext)) {
-                return cached.resolve(evalContext).thenCompose(r -> {
+                CompletionStage<Object> result = cached.resolve(evalContext);
+                if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                    // Synchronous result, e.g. a getter call from a generated value resolver - avoid the composed stage
+                    try {
+                        Object r = completed.get();
+                        if (Results.isNotFound(r)) {
+                            return resolve(evalContext, null, false, expression, isLastPart, partIndex);
+                        }
+                        return CompletionStageSupport.toCompletionStage(r, completed);
+                    } catch (Throwable e) {
+                        return CompletedStage.failure(e);
+                    }
+                }
+                return result.thenCompose(r -> {
                     if (Results.isNotFound(r)) {
                         return resolve(evalContext, null, false, expression, isLastPart, partIndex);
                     } else {
@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -61,7 +62,26 @@ public Uni<String> createUni() {
     @Override
     public CompletionStage<Void> consume(Consumer<String> consumer) {
         StringBuilder builder = new StringBuilder();
-        CompletionStage<Void> cs = delegate.consume(consumer.andThen(builder::append));
+        Consumer<String> collecting;
+        if (consumer instanceof Utf8Consumer utf8Consumer) {
+            collecting = new Utf8Consumer() {
+
+                @Override
+                public void accept(String value) {
+                    utf8Consumer.accept(value);
+                    builder.append(value);
+                }
+
+                @Override
+                public void accept(byte[] bytes) {
+                    utf8Consumer.accept(bytes);
+                    builder.append(new String(bytes, StandardCharsets.UTF_8));
+                }
+            };
+        } else {
+            collecting = consumer.andThen(builder::append);
+        }
+        CompletionStage<Void> cs = delegate.consume(collecting);
         return cs.thenApply(v -> {
             resultConsumer.accept(delegate, builder.toString());
             return v;
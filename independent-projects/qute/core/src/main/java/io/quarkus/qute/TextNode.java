@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -11,6 +12,8 @@ public class TextNode extends ResultNode implements TemplateNode {
     private final CompletedStage<ResultNode> result;
     private final String value;
     private final Origin origin;
+    // lazily encoded; a race results in the same content being encoded more than once
+    private byte[] utf8;
 
     public TextNode(String value, Origin origin) {
         this.result = CompletedStage.of(this);
@@ -42,9 +45,27 @@ public String getValue() {
         return value;
     }
 
+    /**
+     * The array must not be modified.
+     *
+     * @return the UTF-8 encoded value
+     */
+    public byte[] getUtf8Value() {
+        byte[] bytes = utf8;
+        if (bytes == null) {
+            bytes = value.getBytes(StandardCharsets.UTF_8);
+            utf8 = bytes;
+        }
+        return bytes;
+    }
+
     @Override
     public void process(Consumer<String> consumer) {
-        consumer.accept(value);
+        if (consumer instanceof Utf8Consumer utf8Consumer) {
+            utf8Consumer.accept(getUtf8Value());
+        } else {
+            consumer.accept(value);
+        }
     }
 
     @Override
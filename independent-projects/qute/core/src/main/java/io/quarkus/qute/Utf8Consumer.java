@@ -0,0 +1,22 @@
+package io.quarkus.qute;
+
+import java.util.function.Consumer;
+
+/**
+ * A consumer of rendered chunks that is able to accept the static text of a template as UTF-8 encoded bytes.
+ * <p>
+ * The bytes are encoded only once per template and reused for all subsequent renderings. Dynamic parts of the template,
+ * e.g. the results of value expressions, are still passed as strings.
+ *
+ * @see TemplateInstance#consume(Consumer)
+ */
+public interface Utf8Consumer extends Consumer<String> {
+
+    /**
+     * The array is shared by all renderings of the template and must not be modified.
+     *
+     * @param bytes the UTF-8 encoded static text
+     */
+    void accept(byte[] bytes);
+
+}
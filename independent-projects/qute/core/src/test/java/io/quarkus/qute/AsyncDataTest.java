@@ -22,6 +22,17 @@ public void testAsyncData() {
         assertEquals("alpha", engine.parse("{token}").data("token", CompletedStage.of("alpha")).render());
     }
 
+    @Test
+    public void testAsyncDataCachedResolver() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(ValueResolver.builder().applyToBaseClass(Client.class)
+                .applyToName("tokens").resolveSync(ec -> ((Client) ec.getBase()).getTokens()).build()).build();
+        Template template = engine.parse("{client.tokens.size}:{client.tokens.get(1)}");
+        // The second rendering uses the cached resolvers
+        for (int i = 0; i < 2; i++) {
+            assertEquals("3:bravo", template.data("client", new Client()).render());
+        }
+    }
+
     static class Client {
 
         public CompletionStage<List<String>> getTokens() {
@@ -2,8 +2,12 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -99,6 +103,35 @@ public void testVariant() {
         assertEquals("Hello text/html!", render);
     }
 
+    @Test
+    public void testUtf8Consumer() throws Exception {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template hello = engine.parse("Ahoj {foo}, čau!");
+        List<byte[]> staticParts = new ArrayList<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < 2; i++) {
+            out.reset();
+            hello.data("foo", "Žofie").consume(new Utf8Consumer() {
+
+                @Override
+                public void accept(String value) {
+                    out.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void accept(byte[] bytes) {
+                    staticParts.add(bytes);
+                    out.writeBytes(bytes);
+                }
+            }).toCompletableFuture().get();
+            assertEquals("Ahoj Žofie, čau!", out.toString(StandardCharsets.UTF_8));
+        }
+        assertEquals(4, staticParts.size());
+        // Static text is encoded only once
+        assertSame(staticParts.get(0), staticParts.get(2));
+        assertSame(staticParts.get(1), staticParts.get(3));
+    }
+
     @Test
     public void testCapacity() {
         Engine engine = Engine.builder().addDefaults().build();
@@ -45,6 +45,7 @@ public class Deployment {
     private final RequestContextFactory requestContextFactory;
     private final List<ServerRestHandler> preMatchHandlers;
     private final ArrayList<RequestMapper.RequestPath<RestInitialHandler.InitialMatch>> classMappers;
+    private final RequestMapper<RestInitialHandler.InitialMatch> classMapper;
     private final List<GenericRuntimeConfigurableServerRestHandler<?>> runtimeConfigurableServerRestHandlers;
     private final RuntimeExceptionMapper exceptionMapper;
     private final boolean servletPresent;
@@ -80,6 +81,7 @@ public Deployment(ExceptionMapping exceptionMapping,
         this.requestContextFactory = requestContextFactory;
         this.preMatchHandlers = preMatchHandlers;
         this.classMappers = classMappers;
+        this.classMapper = new RequestMapper<>(classMappers);
         this.runtimeConfigurableServerRestHandlers = runtimeConfigurableServerRestHandlers;
         this.exceptionMapper = exceptionMapper;
         this.servletPresent = servletPresent;
@@ -148,6 +150,14 @@ public ArrayList<RequestMapper.RequestPath<RestInitialHandler.InitialMatch>> get
         return classMappers;
     }
 
+    /**
+     * The mapper built from {@link #getClassMappers()}. It is immutable, so it is created once and shared by
+     * everything that needs to match the class level templates at runtime.
+     */
+    public RequestMapper<RestInitialHandler.InitialMatch> getClassMapper() {
+        return classMapper;
+    }
+
     public ParameterConverter getRuntimeParamConverter(Class<?> fieldOwnerClass, String fieldName, boolean single) {
         List<ResourceParamConverterProvider> providers = getParamConverterProviders().getParamConverterProviders();
         if (providers.size() > 0) {
@@ -216,16 +216,7 @@ public void setupInitialMatchAndRestart(RequestMapper.RequestMatch<RestInitialHa
 
         serverResponse().addCloseHandler(new ConnectionCloseHandler(this));
 
-        restart(initialMatch.value.handlers);
-        setMaxPathParams(initialMatch.value.maxPathParams);
-        setRemaining(initialMatch.remaining);
-        for (int i = 0; i < initialMatch.pathParamValues.length; ++i) {
-            String pathParamValue = initialMatch.pathParamValues[i];
-            if (pathParamValue == null) {
-                break;
-            }
-            setPathParamValue(i, initialMatch.pathParamValues[i]);
-        }
+        applyInitialMatch();
     }
 
     /**
@@ -234,21 +225,33 @@ public void setupInitialMatchAndRestart(RequestMapper.RequestMatch<RestInitialHa
      * @return true if a restart occurred
      */
     public boolean restartWithNextInitialMatch() {
-        initialMatch = new RequestMapper<>(deployment.getClassMappers()).continueMatching(getPathWithoutPrefix(), initialMatch);
+        initialMatch = deployment.getClassMapper().continueMatching(getPathWithoutPrefix(), initialMatch);
         if (initialMatch == null) {
             return false;
         }
+        applyInitialMatch();
+        return true;
+    }
+
+    private void applyInitialMatch() {
         restart(initialMatch.value.handlers);
-        setMaxPathParams(initialMatch.value.maxPathParams);
         setRemaining(initialMatch.remaining);
-        for (int i = 0; i < initialMatch.pathParamValues.length; ++i) {
-            String pathParamValue = initialMatch.pathParamValues[i];
+        int maxPathParams = initialMatch.value.maxPathParams;
+        String[] matchedValues = initialMatch.pathParamValues;
+        if (maxPathParams > 1 && matchedValues.length >= maxPathParams) {
+            // the array was allocated by the mapper for this request only, so we can take it over
+            // instead of copying the values into a new one
+            pathParamValues = matchedValues;
+            return;
+        }
+        setMaxPathParams(maxPathParams);
+        for (int i = 0; i < matchedValues.length; ++i) {
+            String pathParamValue = matchedValues[i];
             if (pathParamValue == null) {
                 break;
             }
-            setPathParamValue(i, initialMatch.pathParamValues[i]);
+            setPathParamValue(i, pathParamValue);
         }
-        return true;
     }
 
     /**
@@ -63,6 +63,28 @@ PathMatch<T> defaultMatch(String path) {
         return new PathMatch<>("/", path, defaultHandler);
     }
 
+    /**
+     * Returns the registered prefix lengths, sorted from the longest to the shortest.
+     * <p>
+     * Together with {@link #prefixValue(String, int)} this allows callers on the hot path to walk the candidate
+     * prefixes without allocating {@link PathMatch} instances or substrings of the path.
+     */
+    int[] prefixLengths() {
+        return lengths;
+    }
+
+    /**
+     * @return the value registered for the first {@code length} characters of the path, or {@code null}
+     */
+    T prefixValue(String path, int length) {
+        SubstringMap.SubstringMatch<T> next = paths.get(path, length);
+        return next == null ? null : next.getValue();
+    }
+
+    T getDefaultHandler() {
+        return defaultHandler;
+    }
+
     static class Builder<T> {
 
         private static final String STRING_PATH_SEPARATOR = "/";
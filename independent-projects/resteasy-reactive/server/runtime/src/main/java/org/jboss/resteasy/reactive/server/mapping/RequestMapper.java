@@ -49,16 +49,26 @@ public void accept(String stem, ArrayList<RequestPath<T>> list) {
      * @return best RequestMatch, or null if the path has no match
      */
     public RequestMatch<T> map(String path) {
-        List<PathMatcher.PathMatch<ArrayList<RequestPath<T>>>> matches = requestPaths.match(path);
-        for (int i = 0; i < matches.size(); i++) {
-            var result = mapFromPathMatcher(path, matches.get(i), 0);
-            if (result != null) {
-                return result;
+        // this is the hot path for every request, so we walk the prefix lengths directly instead of
+        // going through PathMatcher#match() which allocates a list and a PathMatch (plus substrings) per candidate
+        int length = path.length();
+        int[] lengths = requestPaths.prefixLengths();
+        for (int i = 0; i < lengths.length; ++i) {
+            int prefixLength = lengths[i];
+            if (prefixLength > length) {
+                continue;
+            }
+            ArrayList<RequestPath<T>> value = requestPaths.prefixValue(path, prefixLength);
+            if (value != null) {
+                var result = mapFromPathMatcher(path, value, prefixLength, 0);
+                if (result != null) {
+                    return result;
+                }
             }
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path), 0);
+        return mapFromPathMatcher(path, requestPaths.getDefaultHandler(), 1, 0);
     }
 
     /**
@@ -113,21 +123,30 @@ private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T
         return -1;
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
             int startIdx) {
-        var value = initialMatches.getValue();
+        return mapFromPathMatcher(path, initialMatches.getValue(), initialMatches.getMatched().length(), startIdx);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private RequestMatch<T> mapFromPathMatcher(String path, ArrayList<RequestPath<T>> value, int matchedLength,
+            int startIdx) {
         if (value == null || startIdx < 0) {
             return null;
         }
         int pathLength = path.length();
+        // the parameter array is only handed out on a successful match, so it can be shared between the
+        // candidates that fail to match
+        String[] params = null;
         for (int index = startIdx; index < value.size(); index++) {
             RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            if (params == null) {
+                params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            }
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatches.getMatched().length();
+            int matchPos = matchedLength;
             for (int i = 1; i < potentialMatch.template.components.length; ++i) {
                 URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
@@ -177,7 +196,8 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                 continue;
             }
             if (paramCount < params.length) {
-                params[paramCount] = null;
+                // a previously failed candidate may have left values behind
+                Arrays.fill(params, paramCount, params.length, null);
             }
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
@@ -29,6 +29,7 @@
 import jakarta.xml.bind.annotation.XmlElements;
 import jakarta.xml.bind.annotation.XmlTransient;
 
+import org.hibernate.Session;
 import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.jpa.QueryHints;
 import org.hibernate.query.SemanticException;
@@ -324,6 +325,8 @@ public String testModel() {
         }
         testPaging(Person.findAll());
         testPaging(Person.find("ORDER BY name"));
+        testCursorPaging(Person.findAll(Sort.by("name").and("id")));
+        testStreamDetached();
 
         // range
         testRange(Person.findAll());
@@ -1138,6 +1141,58 @@ private void testPaging(PanacheQuery<Person> query) {
         Assertions.assertEquals("stef1", persons.get(1).name);
     }
 
+    private void testCursorPaging(PanacheQuery<Person> query) {
+        List<Person> persons = query.cursor(3).list();
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals("stef0", persons.get(0).name);
+        Assertions.assertEquals("stef2", persons.get(2).name);
+        assertTrue(query.hasNextPage());
+        assertFalse(query.hasPreviousPage());
+
+        persons = query.nextPage().list();
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals("stef3", persons.get(0).name);
+        Assertions.assertEquals("stef5", persons.get(2).name);
+        assertTrue(query.hasNextPage());
+        assertTrue(query.hasPreviousPage());
+
+        persons = query.nextPage().list();
+        Assertions.assertEquals(1, persons.size());
+        Assertions.assertEquals("stef6", persons.get(0).name);
+        assertFalse(query.hasNextPage());
+
+        persons = query.previousPage().list();
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals("stef3", persons.get(0).name);
+
+        // the results must be read before moving to another page
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.cursor(3).nextPage());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.lastPage());
+        // keyset pagination requires a sort
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> Person.findAll().cursor(3));
+    }
+
+    private void testStreamDetached() {
+        // the persons were persisted in this transaction, so they are all managed
+        Person.flush();
+        Person.getEntityManager().clear();
+        // already managed before the query
+        Person managed = Person.find("name", "stef3").firstResult();
+        List<Person> persons;
+        try (Stream<Person> stream = Person.findAll(Sort.by("name")).streamDetached(2)) {
+            persons = stream.peek(person -> assertTrue(Person.getEntityManager().contains(person))).toList();
+        }
+        Assertions.assertEquals(7, persons.size());
+        Assertions.assertEquals("stef0", persons.get(0).name);
+        Assertions.assertEquals("stef6", persons.get(6).name);
+        Assertions.assertSame(managed, persons.get(3));
+        // the persistence context does not keep the streamed entities, except the one that was already managed
+        for (Person person : persons) {
+            Assertions.assertEquals(person == managed, Person.getEntityManager().contains(person));
+        }
+        Assertions.assertFalse(Person.getEntityManager().unwrap(Session.class).isReadOnly(managed));
+    }
+
     private void testRange(PanacheQuery<Person> query) {
         List<Person> persons = query.range(0, 2).list();
         Assertions.assertEquals(3, persons.size());
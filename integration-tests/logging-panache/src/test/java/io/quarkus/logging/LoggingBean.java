@@ -14,6 +14,8 @@ public class LoggingBean implements LoggingInterface {
     // not final to prevent constant inlining
     private static String msg = "Heya!";
 
+    static int computedMessages;
+
     static {
         Log.info(msg);
     }
@@ -46,6 +48,18 @@ public void doSomething() {
         Log.error("Hello Error", error);
     }
 
+    public boolean isDebugEnabled() {
+        return Log.isDebugEnabled();
+    }
+
+    public void logComputedMessage() {
+        Log.debugf("computed: %s", computeMessage());
+    }
+
+    private static String computeMessage() {
+        return String.valueOf(++computedMessages);
+    }
+
     // https://github.com/quarkusio/quarkus/issues/32663
     public void reproduceStackDisciplineIssue() {
         String result;
@@ -0,0 +1,67 @@
+package io.quarkus.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.logging.Formatter;
+import java.util.stream.Collectors;
+
+import jakarta.inject.Inject;
+
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.Logger;
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+
+/**
+ * Invocations below the min-level are only removed at build time in native builds. In the JVM mode, they are kept because
+ * the level of the logger can be lowered at runtime, and their arguments are only computed when the level is enabled.
+ */
+public class LoggingWithPanacheMinLevelTest {
+    @RegisterExtension
+    static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar.addClasses(LoggingBean.class, LoggingInterface.class, LoggingEntity.class,
+                    NoStackTraceTestException.class))
+            .overrideConfigKey("quarkus.log.category.\"io.quarkus.logging\".min-level", "INFO")
+            .overrideConfigKey("quarkus.log.category.\"io.quarkus.logging\".level", "INFO")
+            .setLogRecordPredicate(record -> record.getLoggerName().startsWith("io.quarkus.logging.Logging"))
+            .assertLogRecords(records -> {
+                Formatter formatter = new PatternFormatter("[%p] %m");
+                List<String> lines = records.stream().map(formatter::format).map(String::trim).collect(Collectors.toList());
+
+                assertThat(lines).containsExactly(
+                        "[INFO] Heya!",
+                        "[DEBUG] computed: 1",
+                        "[TRACE] LoggingBean created");
+            });
+
+    @Inject
+    LoggingBean bean;
+
+    @Test
+    public void test() {
+        assertFalse(bean.isDebugEnabled());
+        bean.logComputedMessage();
+        // the message is not computed when the level is disabled
+        assertEquals(0, LoggingBean.computedMessages);
+
+        Logger logger = Logger.getLogger("io.quarkus.logging");
+        java.util.logging.Level level = logger.getLevel();
+        logger.setLevel(Level.TRACE);
+        try {
+            assertTrue(bean.isDebugEnabled());
+            bean.logComputedMessage();
+            assertEquals(1, LoggingBean.computedMessages);
+
+            bean.setup();
+        } finally {
+            logger.setLevel(level);
+        }
+    }
+}